@@ -17,6 +17,7 @@ plugins {
     id("java")
     alias(libs.plugins.spotless)
     alias(libs.plugins.ggEssentialLoom) apply false
+    alias(libs.plugins.jmh) apply false
 }
 
 val groupTextProvider = providers.gradleProperty("maven_group")
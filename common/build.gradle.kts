@@ -13,6 +13,10 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
+plugins {
+    alias(libs.plugins.jmh)
+}
+
 base {
     archivesName.set("common")
 }
@@ -23,4 +27,27 @@ dependencies {
     compileOnly(rootProject.libs.gson)
     compileOnly(rootProject.libs.log4j)
     compileOnly(rootProject.libs.guava)
+
+    testImplementation(rootProject.libs.jetbrainsJavaAnnotations)
+    testImplementation(rootProject.libs.gson)
+    testImplementation(rootProject.libs.log4j)
+    testImplementation(rootProject.libs.guava)
+    testImplementation(platform(rootProject.libs.junitBom))
+    testImplementation(rootProject.libs.junitJupiter)
+    testRuntimeOnly(rootProject.libs.junitPlatformLauncher)
+
+    jmhImplementation(rootProject.libs.jetbrainsJavaAnnotations)
+    jmhImplementation(rootProject.libs.gson)
+    jmhImplementation(rootProject.libs.log4j)
+    jmhImplementation(rootProject.libs.guava)
+}
+
+jmh {
+    jmhVersion.set(rootProject.libs.versions.jmh.get())
+}
+
+tasks {
+    named<Test>("test") {
+        useJUnitPlatform()
+    }
 }
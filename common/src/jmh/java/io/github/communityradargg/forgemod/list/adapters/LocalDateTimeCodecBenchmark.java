@@ -0,0 +1,93 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.forgemod.list.adapters;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the hand-written date time codec of {@link GsonLocalDateTimeAdapter} with {@link DateTimeFormatter#ISO_DATE_TIME}.
+ * The samples are dates of the last years with and without a fraction, like the entry dates written by the mod.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LocalDateTimeCodecBenchmark {
+    private static final int SAMPLES = 1024;
+    private final LocalDateTime[] localDateTimes = new LocalDateTime[SAMPLES];
+    private final String[] texts = new String[SAMPLES];
+    private int next;
+
+    /**
+     * Creates the samples.
+     */
+    @Setup
+    public void setup() {
+        final Random random = new Random(4711);
+        final LocalDateTime start = LocalDateTime.of(2020, 1, 1, 0, 0);
+        for (int i = 0; i < SAMPLES; i++) {
+            final LocalDateTime localDateTime = start.plusSeconds(random.nextInt(5 * 365 * 24 * 60 * 60)).plusNanos(random.nextInt(1_000_000_000));
+            localDateTimes[i] = i % 2 == 0 ? localDateTime.truncatedTo(ChronoUnit.SECONDS) : localDateTime.truncatedTo(ChronoUnit.MILLIS);
+            texts[i] = localDateTimes[i].format(DateTimeFormatter.ISO_DATE_TIME);
+        }
+    }
+
+    @Benchmark
+    public LocalDateTime parseAdapter() {
+        return GsonLocalDateTimeAdapter.parse(texts[nextIndex()]);
+    }
+
+    @Benchmark
+    public LocalDateTime parseDateTimeFormatter() {
+        return LocalDateTime.parse(texts[nextIndex()], DateTimeFormatter.ISO_DATE_TIME);
+    }
+
+    @Benchmark
+    public String formatAdapter() {
+        return GsonLocalDateTimeAdapter.format(localDateTimes[nextIndex()]);
+    }
+
+    @Benchmark
+    public String formatDateTimeFormatter() {
+        return localDateTimes[nextIndex()].format(DateTimeFormatter.ISO_DATE_TIME);
+    }
+
+    /**
+     * Gets the index of the next sample, so that the benchmarks do not work on a single constant value.
+     *
+     * @return Returns the index.
+     */
+    private int nextIndex() {
+        next = (next + 1) & (SAMPLES - 1);
+        return next;
+    }
+}
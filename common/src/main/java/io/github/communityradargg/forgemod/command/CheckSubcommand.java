@@ -15,18 +15,24 @@
  */
 package io.github.communityradargg.forgemod.command;
 
+import io.github.communityradargg.forgemod.list.ListIndexSnapshot;
 import io.github.communityradargg.forgemod.list.RadarListEntry;
 import io.github.communityradargg.forgemod.util.CommonHandler;
 import io.github.communityradargg.forgemod.util.Messages;
 import io.github.communityradargg.forgemod.util.PlayerInfo;
 import io.github.communityradargg.forgemod.util.RadarMessage;
-import java.util.Optional;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.jetbrains.annotations.NotNull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Holds the logic of the check subcommand.
  */
 public class CheckSubcommand implements Subcommand {
+    private static final Logger LOGGER = LogManager.getLogger(CheckSubcommand.class);
     private final CommonHandler commonHandler;
     private final String[] args;
 
@@ -94,41 +100,58 @@ public class CheckSubcommand implements Subcommand {
     }
 
     /**
-     * Handles the check - all subcommand.
+     * Handles the check - all subcommand. The tab list and the lists are copied on the client thread and searched in the background.
+     * The found players are rendered in one pass on the client thread again.
      */
     private void handleCheckAllSubcommand() {
-        boolean anyPlayerFound = false;
-        for (final PlayerInfo playerInfo : commonHandler.getWorldPlayers()) {
-            if (playerInfo.getUuid() == null) {
-                continue;
-            }
-
-            final Optional<RadarListEntry> listEntryOptional = commonHandler.getListManager()
-                    .getRadarListEntry(playerInfo.getUuid());
-            if (!listEntryOptional.isPresent()) {
-                // player uuid is on no list
-                continue;
-            }
-
-            if (!anyPlayerFound) {
-                commonHandler.addMessageToChat(new RadarMessage.RadarMessageBuilder(Messages.Check.EVERYONE)
-                        .build().getMessage());
-                anyPlayerFound = true;
-            }
+        final List<PlayerInfo> players = commonHandler.getWorldPlayers();
+        final ListIndexSnapshot snapshot = commonHandler.getListManager().createIndexSnapshot();
+        snapshot.findPlayers(players, commonHandler.getIoExecutor())
+                .whenComplete((groups, throwable) -> commonHandler.runOnClientThread(() -> {
+                    if (throwable != null) {
+                        LOGGER.error("Could not check the players of the world", throwable);
+                        commonHandler.addMessageToChat(new RadarMessage.RadarMessageBuilder(Messages.Check.ALL_FAILED)
+                                .replace("{error}", String.valueOf(throwable.getMessage()))
+                                .build().getMessage());
+                        return;
+                    }
+                    renderCheckAll(groups);
+                }));
+    }
 
-            final RadarListEntry entry = listEntryOptional.get();
-            commonHandler.addMessageToChat(new RadarMessage.RadarMessageBuilder(Messages.Check.CHECK_ENTRY)
-                    .replaceWithColorCodes("{prefix}", commonHandler.getListManager().getPrefix(entry.uuid()))
-                    .replace("{name}", entry.name())
-                    .replace("{cause}", entry.cause())
-                    .replace("{entryCreationDate}", commonHandler.formatDateTime(entry.entryCreationDate()))
-                    .replace("{entryUpdateDate}", commonHandler.formatDateTime(entry.entryUpdateDate()))
+    /**
+     * Renders the found players of the check - all subcommand.
+     *
+     * @param groups The found players grouped by list.
+     */
+    private void renderCheckAll(final @NotNull List<ListIndexSnapshot.Group> groups) {
+        if (groups.isEmpty()) {
+            commonHandler.addMessageToChat(new RadarMessage.RadarMessageBuilder(Messages.Check.NOT_FOUND)
                     .build().getMessage());
+            return;
         }
 
-        if (!anyPlayerFound) {
-            commonHandler.addMessageToChat(new RadarMessage.RadarMessageBuilder(Messages.Check.NOT_FOUND)
+        // the messages are collected first and spread over the next ticks, so that a full server does not freeze the chat
+        final List<String> messages = new ArrayList<>();
+        messages.add(new RadarMessage.RadarMessageBuilder(Messages.Check.EVERYONE)
+                .build().getMessage());
+        for (final ListIndexSnapshot.Group group : groups) {
+            messages.add(new RadarMessage.RadarMessageBuilder(Messages.Check.GROUP)
+                    .replace("{list}", group.getNamespace())
+                    .replaceWithColorCodes("{prefix}", group.getPrefix())
+                    .replace("{players}", String.valueOf(group.getEntries().size()))
                     .build().getMessage());
+            // the prefix is the same for the whole group and is only inserted once into the template
+            final String entryTemplate = Messages.Check.CHECK_ENTRY.replace("{prefix}", group.getPrefix().replace("&", "§"));
+            for (final RadarListEntry entry : group.getEntries()) {
+                messages.add(new RadarMessage.RadarMessageBuilder(entryTemplate)
+                        .replace("{name}", entry.name())
+                        .replace("{cause}", entry.cause())
+                        .replace("{entryCreationDate}", commonHandler.formatDateTime(entry.entryCreationDate()))
+                        .replace("{entryUpdateDate}", commonHandler.formatDateTime(entry.entryUpdateDate()))
+                        .build().getMessage());
+            }
         }
+        commonHandler.addMessagesToChat(messages);
     }
 }
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.forgemod.command;
+
+import io.github.communityradargg.forgemod.list.ListExporter;
+import io.github.communityradargg.forgemod.list.RadarList;
+import io.github.communityradargg.forgemod.list.RadarListEntry;
+import io.github.communityradargg.forgemod.util.CommonHandler;
+import io.github.communityradargg.forgemod.util.Messages;
+import io.github.communityradargg.forgemod.util.RadarMessage;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+/**
+ * Holds the logic of the export subcommand.
+ */
+public class ExportSubcommand implements Subcommand {
+    private static final Logger LOGGER = LogManager.getLogger(ExportSubcommand.class);
+    private final CommonHandler commonHandler;
+    private final String[] args;
+
+    /**
+     * Constructs a {@link ExportSubcommand}.
+     *
+     * @param commonHandler The common handler.
+     * @param args The args.
+     */
+    public ExportSubcommand(final @NotNull CommonHandler commonHandler, final @NotNull String[] args) {
+        this.commonHandler = commonHandler;
+        this.args = args;
+    }
+
+    @Override
+    public void run() {
+        if (args.length != 3) {
+            // missing arguments
+            commonHandler.addMessageToChat(new RadarMessage.RadarMessageBuilder(Messages.MISSING_ARGS)
+                    .build().getMessage());
+            return;
+        }
+
+        final Optional<RadarList> listOptional = commonHandler.getListManager().getRadarList(args[1]);
+        if (!listOptional.isPresent()) {
+            // list not existing
+            commonHandler.addMessageToChat(new RadarMessage.RadarMessageBuilder(Messages.Export.LIST_INVALID)
+                    .build().getMessage());
+            return;
+        }
+
+        final Optional<ListExporter.Format> formatOptional = ListExporter.Format.byName(args[2]);
+        if (!formatOptional.isPresent()) {
+            // format not existing
+            commonHandler.addMessageToChat(new RadarMessage.RadarMessageBuilder(Messages.Export.FORMAT_INVALID)
+                    .replace("{formats}", Arrays.stream(ListExporter.Format.values())
+                            .map(format -> format.name().toLowerCase(Locale.ENGLISH))
+                            .collect(Collectors.joining(", ")))
+                    .build().getMessage());
+            return;
+        }
+
+        final RadarList list = listOptional.get();
+        // the snapshot is taken on the main thread, where the entries of private lists are changed
+        final Map<UUID, RadarListEntry> entries = list.getEntriesSnapshot();
+        final Path directory = Paths.get(new File("").getAbsolutePath(), CommonHandler.MOD_ID, "exports");
+        commonHandler.addMessageToChat(new RadarMessage.RadarMessageBuilder(Messages.INPUT_PROCESSING)
+                .build().getMessage());
+        CompletableFuture.runAsync(() -> {
+            final Path path;
+            try {
+                path = ListExporter.export(list.getNamespace(), entries, formatOptional.get(), directory);
+            } catch (final IOException e) {
+                throw new CompletionException(e);
+            }
+
+            LOGGER.info("Exported {} entries of list '{}' to {}", entries.size(), list.getNamespace(), path);
+            commonHandler.addMessageToChat(new RadarMessage.RadarMessageBuilder(Messages.Export.SUCCESS)
+                    .replace("{list}", list.getNamespace())
+                    .replace("{players}", String.valueOf(entries.size()))
+                    .replace("{file}", directory.getParent().relativize(path).toString())
+                    .build().getMessage());
+        }, commonHandler.getIoExecutor()).exceptionally(throwable -> {
+            LOGGER.error("Could not export list '{}'", list.getNamespace(), throwable);
+            final Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+            commonHandler.addMessageToChat(new RadarMessage.RadarMessageBuilder(Messages.Export.FAILED)
+                    .replace("{error}", String.valueOf(cause.getMessage()))
+                    .build().getMessage());
+            return null;
+        });
+    }
+}
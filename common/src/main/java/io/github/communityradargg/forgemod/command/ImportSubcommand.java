@@ -0,0 +1,183 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.forgemod.command;
+
+import io.github.communityradargg.forgemod.list.PlayerImportFile;
+import io.github.communityradargg.forgemod.list.RadarList;
+import io.github.communityradargg.forgemod.list.RadarListEntry;
+import io.github.communityradargg.forgemod.list.RadarListVisibility;
+import io.github.communityradargg.forgemod.util.CommonHandler;
+import io.github.communityradargg.forgemod.util.Messages;
+import io.github.communityradargg.forgemod.util.PlayerInfo;
+import io.github.communityradargg.forgemod.util.PrefixMatcher;
+import io.github.communityradargg.forgemod.util.RadarMessage;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Holds the logic of the import subcommand.
+ */
+public class ImportSubcommand implements Subcommand {
+    private static final Logger LOGGER = LogManager.getLogger(ImportSubcommand.class);
+    private static final long PROGRESS_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(5);
+    private final CommonHandler commonHandler;
+    private final String[] args;
+
+    /**
+     * Constructs a {@link ImportSubcommand}.
+     *
+     * @param commonHandler The common handler.
+     * @param args The args.
+     */
+    public ImportSubcommand(final @NotNull CommonHandler commonHandler, final @NotNull String[] args) {
+        this.commonHandler = commonHandler;
+        this.args = args;
+    }
+
+    @Override
+    public void run() {
+        if (args.length < 3) {
+            // missing arguments
+            commonHandler.addMessageToChat(new RadarMessage.RadarMessageBuilder(Messages.MISSING_ARGS)
+                    .build().getMessage());
+            return;
+        }
+
+        final Optional<RadarList> listOptional = commonHandler.getListManager().getRadarList(args[1]);
+        if (!listOptional.isPresent() || listOptional.get().getRadarListVisibility() != RadarListVisibility.PRIVATE) {
+            // list not existing or not private
+            commonHandler.addMessageToChat(new RadarMessage.RadarMessageBuilder(Messages.Import.LIST_INVALID)
+                    .build().getMessage());
+            return;
+        }
+
+        // only files directly in the mod directory can be imported
+        final Path directory = Paths.get(new File("").getAbsolutePath(), CommonHandler.MOD_ID).normalize();
+        final Path path = directory.resolve(args[2]).normalize();
+        if (!directory.equals(path.getParent()) || !Files.isRegularFile(path)) {
+            commonHandler.addMessageToChat(new RadarMessage.RadarMessageBuilder(Messages.Import.FILE_INVALID)
+                    .replace("{file}", args[2])
+                    .build().getMessage());
+            return;
+        }
+
+        final String defaultCause = args.length > 3 ? String.join(" ", Arrays.copyOfRange(args, 3, args.length)) : "";
+        final String namespace = listOptional.get().getNamespace();
+        // the world players are read here, because the world must only be accessed from the main thread
+        final List<PlayerInfo> worldPlayers = commonHandler.getWorldPlayers();
+        commonHandler.addMessageToChat(new RadarMessage.RadarMessageBuilder(Messages.INPUT_PROCESSING)
+                .build().getMessage());
+        CompletableFuture.runAsync(() -> importFile(path, namespace, defaultCause, worldPlayers), commonHandler.getImportExecutor())
+                .exceptionally(throwable -> {
+                    LOGGER.error("Could not import file {}", path, throwable);
+                    commonHandler.addMessageToChat(new RadarMessage.RadarMessageBuilder(Messages.Import.FAILED)
+                            .replace("{error}", String.valueOf(throwable.getMessage()))
+                            .build().getMessage());
+                    return null;
+                });
+    }
+
+    /**
+     * Imports the players of a file into a list. All names are resolved on the import executor first.
+     * The entries are added on the client thread afterwards and the list is saved once.
+     *
+     * @param path The path of the import file.
+     * @param namespace The namespace of the list.
+     * @param defaultCause The cause for players without a cause in the file.
+     * @param worldPlayers The players of the world.
+     */
+    private void importFile(final @NotNull Path path, final @NotNull String namespace, final @NotNull String defaultCause, final @NotNull List<PlayerInfo> worldPlayers) {
+        final List<PlayerImportFile.Row> rows;
+        try {
+            rows = PlayerImportFile.read(path).getRows();
+        } catch (final IOException e) {
+            LOGGER.error("Could not read import file {}", path, e);
+            commonHandler.addMessageToChat(new RadarMessage.RadarMessageBuilder(Messages.Import.FAILED)
+                    .replace("{error}", String.valueOf(e.getMessage()))
+                    .build().getMessage());
+            return;
+        }
+
+        final String players = String.valueOf(rows.size());
+        commonHandler.addMessageToChat(new RadarMessage.RadarMessageBuilder(Messages.Import.STARTED)
+                .replace("{players}", players)
+                .build().getMessage());
+
+        // the progress is shown at most every few seconds, so that large imports do not flood the chat
+        final AtomicLong lastProgressTime = new AtomicLong(System.currentTimeMillis());
+        final Map<String, UUID> uuids = commonHandler.getPlayerNameBatchResolver().resolve(
+                rows.stream().map(PlayerImportFile.Row::getName).collect(Collectors.toList()), worldPlayers, processed -> {
+                    final long now = System.currentTimeMillis();
+                    final long lastTime = lastProgressTime.get();
+                    if (processed < rows.size() && now - lastTime >= PROGRESS_INTERVAL_MILLIS && lastProgressTime.compareAndSet(lastTime, now)) {
+                        commonHandler.addMessageToChat(new RadarMessage.RadarMessageBuilder(Messages.Import.PROGRESS)
+                                .replace("{processed}", String.valueOf(processed))
+                                .replace("{players}", players)
+                                .build().getMessage());
+                    }
+                });
+
+        final LocalDateTime now = LocalDateTime.now();
+        final List<RadarListEntry> entries = new ArrayList<>();
+        for (final PlayerImportFile.Row row : rows) {
+            final UUID uuid = uuids.get(row.getName().toLowerCase(Locale.ENGLISH));
+            if (uuid != null) {
+                entries.add(new RadarListEntry(uuid, row.getName(), row.getCause() == null ? defaultCause : row.getCause(), now));
+            }
+        }
+
+        final int unresolved = rows.size() - entries.size();
+        commonHandler.runOnClientThread(() -> addEntries(path, namespace, entries, unresolved));
+    }
+
+    /**
+     * Adds the resolved entries of an import to a list.
+     *
+     * @param path The path of the import file.
+     * @param namespace The namespace of the list.
+     * @param entries The resolved entries.
+     * @param unresolved The number of players, whose name could not be resolved.
+     */
+    private void addEntries(final @NotNull Path path, final @NotNull String namespace, final @NotNull List<RadarListEntry> entries, final int unresolved) {
+        final PrefixMatcher prefixMatcher = commonHandler.getPrefixMatcher();
+        final List<RadarListEntry> addedEntries = commonHandler.getListManager().addRadarListEntries(namespace, entries);
+        commonHandler.updatePlayersByUuids(addedEntries.stream().map(RadarListEntry::uuid).collect(Collectors.toSet()), prefixMatcher);
+        LOGGER.info("Imported {} of {} players from {} into list '{}'", addedEntries.size(), entries.size() + unresolved, path, namespace);
+        commonHandler.addMessageToChat(new RadarMessage.RadarMessageBuilder(Messages.Import.SUCCESS)
+                .replace("{added}", String.valueOf(addedEntries.size()))
+                .replace("{skipped}", String.valueOf(entries.size() - addedEntries.size()))
+                .replace("{unresolved}", String.valueOf(unresolved))
+                .build().getMessage());
+    }
+}
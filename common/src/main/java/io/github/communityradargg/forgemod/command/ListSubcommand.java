@@ -16,9 +16,12 @@
 package io.github.communityradargg.forgemod.command;
 
 import io.github.communityradargg.forgemod.list.ListManager;
+import io.github.communityradargg.forgemod.list.ListPages;
+import io.github.communityradargg.forgemod.list.ListSubscription;
 import io.github.communityradargg.forgemod.list.RadarList;
 import io.github.communityradargg.forgemod.util.CommonHandler;
 import io.github.communityradargg.forgemod.util.Messages;
+import io.github.communityradargg.forgemod.util.PrefixMatcher;
 import io.github.communityradargg.forgemod.util.RadarMessage;
 import org.jetbrains.annotations.NotNull;
 import java.util.Collections;
@@ -67,6 +70,12 @@ public class ListSubcommand implements Subcommand {
             case "SHOW":
                 handleListShowSubcommand(args);
                 break;
+            case "SUBSCRIBE":
+                handleListSubscribeSubcommand(args);
+                break;
+            case "UNSUBSCRIBE":
+                handleListUnsubscribeSubcommand(args);
+                break;
             default:
                 new HelpSubcommand(commonHandler).run();
                 break;
@@ -118,7 +127,7 @@ public class ListSubcommand implements Subcommand {
         }
 
         final ListManager listManager = commonHandler.getListManager();
-        final Set<String> oldPrefixes = listManager.getExistingPrefixes();
+        final PrefixMatcher oldPrefixes = commonHandler.getPrefixMatcher();
         final Set<UUID> oldUuids = listManager.getRadarList(args[2])
                 .map(radarList -> radarList.getPlayerMap().keySet())
                 .orElse(Collections.emptySet());
@@ -130,7 +139,7 @@ public class ListSubcommand implements Subcommand {
             return;
         }
 
-        oldUuids.forEach(uuid -> commonHandler.updatePlayerByUuid(uuid, oldPrefixes));
+        commonHandler.updatePlayersByUuids(oldUuids, oldPrefixes);
         commonHandler.addMessageToChat(new RadarMessage.RadarMessageBuilder(Messages.List.DELETE_SUCCESS)
                 .build().getMessage());
     }
@@ -141,7 +150,7 @@ public class ListSubcommand implements Subcommand {
      * @param args The arguments passed to the main command.
      */
     private void handleListShowSubcommand(final @NotNull String[] args) {
-        if (args.length != 3) {
+        if (args.length != 3 && args.length != 4) {
             // missing arguments
             commonHandler.addMessageToChat(new RadarMessage.RadarMessageBuilder(Messages.MISSING_ARGS)
                     .build().getMessage());
@@ -157,20 +166,45 @@ public class ListSubcommand implements Subcommand {
         }
 
         final RadarList list = listOptional.get();
-        if (list.getPlayerMap().isEmpty()) {
+        final ListPages pages = list.getPages();
+        if (pages.getPageCount() == 0) {
             // list is empty
             commonHandler.addMessageToChat(new RadarMessage.RadarMessageBuilder(Messages.List.SHOW_EMPTY)
                     .build().getMessage());
             return;
         }
 
-        final StringBuilder players = new StringBuilder();
-        list.getPlayerMap().values().forEach(value -> players.append(value.name()).append(", "));
+        int page = 1;
+        if (args.length == 4) {
+            try {
+                page = Integer.parseInt(args[3]);
+            } catch (final NumberFormatException e) {
+                page = 0;
+            }
+        }
+
+        if (page < 1 || page > pages.getPageCount()) {
+            // page is not existing
+            commonHandler.addMessageToChat(new RadarMessage.RadarMessageBuilder(Messages.List.SHOW_PAGE_INVALID)
+                    .replace("{pages}", String.valueOf(pages.getPageCount()))
+                    .build().getMessage());
+            return;
+        }
+
         commonHandler.addMessageToChat(new RadarMessage.RadarMessageBuilder(Messages.List.SHOW_SUCCESS)
                 .replace("{list}", list.getNamespace())
-                .replaceWithColorCodes("{prefix}", listOptional.get().getPrefix())
-                .replace("{players}", players.substring(0, players.length() - 2))
+                .replaceWithColorCodes("{prefix}", list.getPrefix())
+                .replace("{players}", String.join(", ", pages.getPage(page)))
                 .build().getMessage());
+        if (pages.getPageCount() > 1) {
+            commonHandler.addMessageToChat(new RadarMessage.RadarMessageBuilder(Messages.List.SHOW_PAGE)
+                    .replace("{page}", String.valueOf(page))
+                    .replace("{pages}", String.valueOf(pages.getPageCount()))
+                    .replace("{count}", String.valueOf(pages.getNameCount()))
+                    .replace("{list}", list.getNamespace())
+                    .excludePrefix()
+                    .build().getMessage());
+        }
     }
 
     /**
@@ -196,13 +230,80 @@ public class ListSubcommand implements Subcommand {
         }
 
         final RadarList list = listOptional.get();
-        final Set<String> oldPrefixes = listManager.getExistingPrefixes();
+        final PrefixMatcher oldPrefixes = commonHandler.getPrefixMatcher();
         list.setPrefix(args[3]);
         list.saveList();
-        list.getPlayerMap().keySet().forEach(uuid -> commonHandler.updatePlayerByUuid(uuid, oldPrefixes));
+        commonHandler.updatePlayersByUuids(list.getPlayerMap().keySet(), oldPrefixes);
 
         commonHandler.addMessageToChat(new RadarMessage.RadarMessageBuilder(Messages.List.PREFIX_SUCCESS)
                 .replaceWithColorCodes("{prefix}", args[3])
                 .build().getMessage());
     }
+
+    /**
+     * Handles the list - subscribe subcommand.
+     *
+     * @param args The arguments passed to the main command.
+     */
+    private void handleListSubscribeSubcommand(final @NotNull String[] args) {
+        if (args.length != 5 && args.length != 6) {
+            // missing arguments
+            commonHandler.addMessageToChat(new RadarMessage.RadarMessageBuilder(Messages.MISSING_ARGS)
+                    .build().getMessage());
+            return;
+        }
+
+        int refreshIntervalMinutes = ListSubscription.DEFAULT_REFRESH_INTERVAL_MINUTES;
+        if (args.length == 6) {
+            try {
+                refreshIntervalMinutes = Integer.parseInt(args[5]);
+            } catch (final NumberFormatException e) {
+                // invalid interval
+                commonHandler.addMessageToChat(new RadarMessage.RadarMessageBuilder(Messages.List.SUBSCRIBE_FAILED)
+                        .build().getMessage());
+                return;
+            }
+        }
+
+        final ListSubscription subscription = new ListSubscription(args[2], args[3], args[4], refreshIntervalMinutes);
+        commonHandler.addMessageToChat(new RadarMessage.RadarMessageBuilder(Messages.INPUT_PROCESSING)
+                .build().getMessage());
+        commonHandler.subscribeList(subscription).thenAccept(subscribed -> {
+            if (!subscribed) {
+                // list already existing, invalid url
+                commonHandler.addMessageToChat(new RadarMessage.RadarMessageBuilder(Messages.List.SUBSCRIBE_FAILED)
+                        .build().getMessage());
+                return;
+            }
+
+            commonHandler.addMessageToChat(new RadarMessage.RadarMessageBuilder(Messages.List.SUBSCRIBE_SUCCESS)
+                    .replace("{list}", subscription.getNamespace())
+                    .replace("{interval}", String.valueOf(subscription.getRefreshIntervalMinutes()))
+                    .build().getMessage());
+        });
+    }
+
+    /**
+     * Handles the list - unsubscribe subcommand.
+     *
+     * @param args The arguments passed to the main command.
+     */
+    private void handleListUnsubscribeSubcommand(final @NotNull String[] args) {
+        if (args.length != 3) {
+            // missing arguments
+            commonHandler.addMessageToChat(new RadarMessage.RadarMessageBuilder(Messages.MISSING_ARGS)
+                    .build().getMessage());
+            return;
+        }
+
+        if (!commonHandler.unsubscribeList(args[2])) {
+            // no subscription with this name
+            commonHandler.addMessageToChat(new RadarMessage.RadarMessageBuilder(Messages.List.UNSUBSCRIBE_FAILED)
+                    .build().getMessage());
+            return;
+        }
+
+        commonHandler.addMessageToChat(new RadarMessage.RadarMessageBuilder(Messages.List.UNSUBSCRIBE_SUCCESS)
+                .build().getMessage());
+    }
 }
@@ -41,9 +41,15 @@ public class ListsSubcommand implements Subcommand {
         final StringBuilder listsText = new StringBuilder();
         for (final String namespace : commonHandler.getListManager().getNamespaces()) {
             commonHandler.getListManager().getRadarList(namespace)
-                    .ifPresent(radarList -> listsText.append("§e").append(namespace).append(" §7(§c")
-                            .append(radarList.getRadarListVisibility() == RadarListVisibility.PRIVATE ? Messages.Lists.PRIVATE : Messages.Lists.PUBLIC)
-                            .append("§7)").append(", "));
+                    .ifPresent(radarList -> {
+                        listsText.append("§e").append(namespace).append(" §7(§c")
+                                .append(radarList.getRadarListVisibility() == RadarListVisibility.PRIVATE ? Messages.Lists.PRIVATE : Messages.Lists.PUBLIC)
+                                .append("§7)");
+                        radarList.getLastFailureTime().ifPresent(failureTime -> listsText.append(" ").append(Messages.Lists.LOAD_FAILED
+                                .replace("{time}", commonHandler.formatDateTime(failureTime))
+                                .replace("{error}", radarList.getLastFailureMessage().orElse(""))));
+                        listsText.append(", ");
+                    });
         }
 
         if (listsText.length() > 0) {
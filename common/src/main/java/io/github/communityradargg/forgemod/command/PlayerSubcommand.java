@@ -59,6 +59,9 @@ public class PlayerSubcommand implements Subcommand {
             case "REMOVE":
                 handlePlayerRemoveSubcommand(args);
                 break;
+            case "EXPIRE":
+                handlePlayerExpireSubcommand(args);
+                break;
             default:
                 new HelpSubcommand(commonHandler).run();
                 break;
@@ -119,7 +122,7 @@ public class PlayerSubcommand implements Subcommand {
 
             commonHandler.addMessageToChat(new RadarMessage.RadarMessageBuilder(Messages.Player.ADD_SUCCESS)
                     .build().getMessage());
-            commonHandler.updatePlayerByUuid(uuid, listManager.getExistingPrefixes());
+            commonHandler.updatePlayerByUuid(uuid, commonHandler.getPrefixMatcher());
         });
     }
 
@@ -164,10 +167,55 @@ public class PlayerSubcommand implements Subcommand {
                 return;
             }
 
-            list.getPlayerMap().remove(uuid);
-            commonHandler.updatePlayerByUuid(uuid, listManager.getExistingPrefixes());
+            list.removeRadarListEntry(uuid);
+            commonHandler.updatePlayerByUuid(uuid, commonHandler.getPrefixMatcher());
             commonHandler.addMessageToChat(new RadarMessage.RadarMessageBuilder(Messages.Player.REMOVE_SUCCESS)
                     .build().getMessage());
         });
     }
+
+    /**
+     * Handles the player - expire subcommand.
+     *
+     * @param args The arguments passed to the main command.
+     */
+    private void handlePlayerExpireSubcommand(final @NotNull String[] args) {
+        if (args.length != 5) {
+            // missing arguments
+            commonHandler.addMessageToChat(new RadarMessage.RadarMessageBuilder(Messages.MISSING_ARGS)
+                    .build().getMessage());
+            return;
+        }
+
+        final int expiryDays;
+        try {
+            expiryDays = Integer.parseInt(args[4]);
+        } catch (final NumberFormatException e) {
+            commonHandler.addMessageToChat(new RadarMessage.RadarMessageBuilder(Messages.Player.EXPIRE_INVALID_DAYS)
+                    .build().getMessage());
+            return;
+        }
+
+        commonHandler.addMessageToChat(new RadarMessage.RadarMessageBuilder(Messages.INPUT_PROCESSING)
+                .build().getMessage());
+        commonHandler.getUuidByPlayerName(commonHandler, args[3]).thenAccept(uuidOptional -> {
+            if (!uuidOptional.isPresent()) {
+                // player uuid could not be fetched
+                commonHandler.addMessageToChat(new RadarMessage.RadarMessageBuilder(args[3].startsWith("!") ? Messages.Player.NAME_INVALID_BEDROCK : Messages.Player.NAME_INVALID)
+                        .build().getMessage());
+                return;
+            }
+
+            if (!commonHandler.getListManager().setRadarListEntryExpiry(args[2], uuidOptional.get(), expiryDays)) {
+                // list is not private or player not on list
+                commonHandler.addMessageToChat(new RadarMessage.RadarMessageBuilder(Messages.Player.EXPIRE_FAILED)
+                        .build().getMessage());
+                return;
+            }
+
+            commonHandler.addMessageToChat(new RadarMessage.RadarMessageBuilder(expiryDays < 0 ? Messages.Player.EXPIRE_NEVER : Messages.Player.EXPIRE_SUCCESS)
+                    .replace("{days}", String.valueOf(expiryDays))
+                    .build().getMessage());
+        });
+    }
 }
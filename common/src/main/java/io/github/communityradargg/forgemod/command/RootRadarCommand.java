@@ -63,6 +63,15 @@ public class RootRadarCommand {
                 case "LISTS":
                     subcommand = new ListsSubcommand(commonHandler);
                     break;
+                case "EXPORT":
+                    subcommand = new ExportSubcommand(commonHandler, args);
+                    break;
+                case "IMPORT":
+                    subcommand = new ImportSubcommand(commonHandler, args);
+                    break;
+                case "SEARCH":
+                    subcommand = new SearchSubcommand(commonHandler, args);
+                    break;
                 default:
                     subcommand = new HelpSubcommand(commonHandler);
                     break;
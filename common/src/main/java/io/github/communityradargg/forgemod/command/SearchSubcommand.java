@@ -0,0 +1,105 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.forgemod.command;
+
+import io.github.communityradargg.forgemod.list.EntrySearchResult;
+import io.github.communityradargg.forgemod.util.CommonHandler;
+import io.github.communityradargg.forgemod.util.Messages;
+import io.github.communityradargg.forgemod.util.RadarMessage;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Holds the logic of the search subcommand.
+ */
+public class SearchSubcommand implements Subcommand {
+    private static final Logger LOGGER = LogManager.getLogger(SearchSubcommand.class);
+    private static final int MAX_RESULTS = 10;
+    private final CommonHandler commonHandler;
+    private final String[] args;
+
+    /**
+     * Constructs a {@link SearchSubcommand}.
+     *
+     * @param commonHandler The common handler.
+     * @param args The args.
+     */
+    public SearchSubcommand(final @NotNull CommonHandler commonHandler, final @NotNull String[] args) {
+        this.commonHandler = commonHandler;
+        this.args = args;
+    }
+
+    @Override
+    public void run() {
+        if (args.length < 2) {
+            // missing arguments
+            commonHandler.addMessageToChat(new RadarMessage.RadarMessageBuilder(Messages.MISSING_ARGS)
+                    .build().getMessage());
+            return;
+        }
+
+        final String query = String.join(" ", Arrays.copyOfRange(args, 1, args.length));
+        // one more result than shown is requested to know, whether there are more results
+        commonHandler.getListManager().searchEntries(query, MAX_RESULTS + 1)
+                .whenComplete((results, throwable) -> commonHandler.runOnClientThread(() -> {
+                    if (throwable != null) {
+                        LOGGER.error("Could not search the lists for '{}'", query, throwable);
+                        commonHandler.addMessageToChat(new RadarMessage.RadarMessageBuilder(Messages.Search.FAILED)
+                                .replace("{error}", String.valueOf(throwable.getMessage()))
+                                .build().getMessage());
+                        return;
+                    }
+                    renderResults(query, results);
+                }));
+    }
+
+    /**
+     * Renders the results of a search.
+     *
+     * @param query The search query.
+     * @param results The results ordered by their score.
+     */
+    private void renderResults(final @NotNull String query, final @NotNull List<EntrySearchResult> results) {
+        if (results.isEmpty()) {
+            commonHandler.addMessageToChat(new RadarMessage.RadarMessageBuilder(Messages.Search.NOT_FOUND)
+                    .replace("{query}", query)
+                    .build().getMessage());
+            return;
+        }
+
+        commonHandler.addMessageToChat(new RadarMessage.RadarMessageBuilder(Messages.Search.FOUND)
+                .replace("{query}", query)
+                .build().getMessage());
+        for (final EntrySearchResult result : results.subList(0, Math.min(results.size(), MAX_RESULTS))) {
+            commonHandler.addMessageToChat(new RadarMessage.RadarMessageBuilder(Messages.Search.ENTRY)
+                    .replaceWithColorCodes("{prefix}", result.getList().getPrefix())
+                    .replace("{name}", String.valueOf(result.getEntry().name()))
+                    .replace("{list}", result.getList().getNamespace())
+                    .replace("{cause}", String.valueOf(result.getEntry().cause()))
+                    .excludePrefix()
+                    .build().getMessage());
+        }
+
+        if (results.size() > MAX_RESULTS) {
+            commonHandler.addMessageToChat(new RadarMessage.RadarMessageBuilder(Messages.Search.MORE)
+                    .excludePrefix()
+                    .build().getMessage());
+        }
+    }
+}
@@ -0,0 +1,350 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.forgemod.list;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * A compact, versioned binary format for radar lists.
+ * <br><br>
+ * All numbers are big-endian. The layout is:
+ * <br>
+ * - magic {@code "CRLB"}, format version (short), visibility (byte), list version (long), namespace and prefix (strings)
+ * <br>
+ * - string table: count (int), strings; names and causes are deduplicated and referenced by their index
+ * <br>
+ * - entries: count (int), each entry with uuid (two longs), name index (int), cause index (int),
+ * creation and update time in epoch seconds of UTC (long, {@link Long#MIN_VALUE} if not set) and expiry days (int)
+ * <br><br>
+ * Strings are stored as length (int) and UTF-8 bytes, a string index of {@code -1} stands for no string.
+ */
+public class BinaryListFormat {
+    private static final int MAGIC = 0x43524C42; // CRLB
+    private static final short FORMAT_VERSION = 1;
+    private static final long NO_TIME = Long.MIN_VALUE;
+    // mapped files can not be replaced on Windows until the mapping is garbage collected, so they are read into a heap buffer there
+    private static final boolean MAP_FILES = !System.getProperty("os.name", "").toLowerCase(Locale.ENGLISH).startsWith("windows");
+
+    /**
+     * Encodes a list into the binary format.
+     *
+     * @param namespace The namespace of the list.
+     * @param prefix The prefix of the list.
+     * @param visibility The visibility of the list.
+     * @param version The version of the list or {@code -1}, if the list is not versioned.
+     * @param entries The entries of the list.
+     * @return Returns the encoded list.
+     */
+    public static byte[] encode(final @NotNull String namespace, final @NotNull String prefix, final @NotNull RadarListVisibility visibility,
+                                final long version, final @NotNull Collection<RadarListEntry> entries) {
+        final Map<String, Integer> stringIndices = new HashMap<>();
+        final List<String> strings = new ArrayList<>();
+        for (final RadarListEntry entry : entries) {
+            addString(stringIndices, strings, entry.name());
+            addString(stringIndices, strings, entry.cause());
+        }
+
+        final ByteArrayOutputStream byteStream = new ByteArrayOutputStream(64 + strings.size() * 16 + entries.size() * 44);
+        try (final DataOutputStream output = new DataOutputStream(byteStream)) {
+            output.writeInt(MAGIC);
+            output.writeShort(FORMAT_VERSION);
+            output.writeByte(visibility == RadarListVisibility.PUBLIC ? 0 : 1);
+            output.writeLong(version);
+            writeString(output, namespace);
+            writeString(output, prefix);
+
+            output.writeInt(strings.size());
+            for (final String string : strings) {
+                writeString(output, string);
+            }
+
+            output.writeInt(entries.size());
+            for (final RadarListEntry entry : entries) {
+                output.writeLong(entry.uuid().getMostSignificantBits());
+                output.writeLong(entry.uuid().getLeastSignificantBits());
+                output.writeInt(entry.name() == null ? -1 : stringIndices.get(entry.name()));
+                output.writeInt(entry.cause() == null ? -1 : stringIndices.get(entry.cause()));
+                output.writeLong(toEpochSecond(entry.entryCreationDate()));
+                output.writeLong(toEpochSecond(entry.entryUpdateDate()));
+                output.writeInt(entry.expiryDays());
+            }
+        } catch (final IOException e) {
+            // a byte array output stream does not throw
+            throw new IllegalStateException(e);
+        }
+        return byteStream.toByteArray();
+    }
+
+    /**
+     * Reads a list from a file. The file is memory-mapped read-only where possible.
+     *
+     * @param path The path of the file.
+     * @return Returns the decoded list.
+     * @throws IOException If the file could not be read or is not a valid list.
+     */
+    public static @NotNull ListData read(final @NotNull Path path) throws IOException {
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("List file too large: " + path);
+            }
+
+            final ByteBuffer buffer;
+            if (MAP_FILES) {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            } else {
+                buffer = ByteBuffer.allocate((int) size);
+                while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                    // read until the buffer is full
+                }
+                buffer.flip();
+            }
+            return decode(buffer);
+        }
+    }
+
+    /**
+     * Decodes a list from a buffer.
+     *
+     * @param buffer The buffer with the encoded list.
+     * @return Returns the decoded list.
+     * @throws IOException If the buffer does not contain a valid list.
+     */
+    public static @NotNull ListData decode(final @NotNull ByteBuffer buffer) throws IOException {
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Not a binary radar list");
+            }
+
+            final short formatVersion = buffer.getShort();
+            if (formatVersion != FORMAT_VERSION) {
+                throw new IOException("Unsupported binary radar list version: " + formatVersion);
+            }
+
+            final RadarListVisibility visibility = buffer.get() == 0 ? RadarListVisibility.PUBLIC : RadarListVisibility.PRIVATE;
+            final long version = buffer.getLong();
+            final String namespace = readString(buffer);
+            final String prefix = readString(buffer);
+
+            final String[] strings = new String[checkCount(buffer.getInt(), buffer, 4)];
+            for (int i = 0; i < strings.length; i++) {
+                strings[i] = readString(buffer);
+            }
+
+            final int entryCount = checkCount(buffer.getInt(), buffer, 44);
+            final Map<UUID, RadarListEntry> playerMap = new RadarListEntryStore(entryCount);
+            for (int i = 0; i < entryCount; i++) {
+                final UUID uuid = new UUID(buffer.getLong(), buffer.getLong());
+                final String name = getString(strings, buffer.getInt());
+                final String cause = getString(strings, buffer.getInt());
+                final LocalDateTime entryCreationDate = fromEpochSecond(buffer.getLong());
+                final LocalDateTime entryUpdateDate = fromEpochSecond(buffer.getLong());
+                playerMap.put(uuid, new RadarListEntry(uuid, name, cause, entryCreationDate, entryUpdateDate, buffer.getInt()));
+            }
+            return new ListData(namespace, prefix, visibility, version, playerMap);
+        } catch (final BufferUnderflowException e) {
+            throw new IOException("Truncated binary radar list", e);
+        }
+    }
+
+    /**
+     * Adds a string to the string table, if it is not already contained.
+     *
+     * @param stringIndices The indices of the strings in the table.
+     * @param strings The string table.
+     * @param string The string to add.
+     */
+    private static void addString(final @NotNull Map<String, Integer> stringIndices, final @NotNull List<String> strings, final @Nullable String string) {
+        if (string != null && !stringIndices.containsKey(string)) {
+            stringIndices.put(string, strings.size());
+            strings.add(string);
+        }
+    }
+
+    /**
+     * Writes a string as length and UTF-8 bytes.
+     *
+     * @param output The output to write to.
+     * @param string The string to write.
+     * @throws IOException If the string could not be written.
+     */
+    private static void writeString(final @NotNull DataOutputStream output, final @NotNull String string) throws IOException {
+        final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    /**
+     * Reads a string written by {@link #writeString(DataOutputStream, String)}.
+     *
+     * @param buffer The buffer to read from.
+     * @return Returns the read string.
+     * @throws IOException If the length of the string is invalid.
+     */
+    private static @NotNull String readString(final @NotNull ByteBuffer buffer) throws IOException {
+        final byte[] bytes = new byte[checkCount(buffer.getInt(), buffer, 1)];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Gets a string of the string table by its index.
+     *
+     * @param strings The string table.
+     * @param index The index of the string or {@code -1} for no string.
+     * @return Returns the string or {@code null}, if the index is {@code -1}.
+     * @throws IOException If the index is out of bounds.
+     */
+    private static @Nullable String getString(final @NotNull String[] strings, final int index) throws IOException {
+        if (index == -1) {
+            return null;
+        }
+
+        if (index < 0 || index >= strings.length) {
+            throw new IOException("Invalid string index: " + index);
+        }
+        return strings[index];
+    }
+
+    /**
+     * Checks, whether a count read from a buffer can fit into its remaining bytes, so that a corrupt count does not allocate huge arrays.
+     *
+     * @param count The count to check.
+     * @param buffer The buffer the count was read from.
+     * @param minBytesPerElement The minimal number of bytes per counted element.
+     * @return Returns the count.
+     * @throws IOException If the count is invalid.
+     */
+    private static int checkCount(final int count, final @NotNull ByteBuffer buffer, final int minBytesPerElement) throws IOException {
+        if (count < 0 || (long) count * minBytesPerElement > buffer.remaining()) {
+            throw new IOException("Invalid count: " + count);
+        }
+        return count;
+    }
+
+    /**
+     * Converts a date time to epoch seconds in UTC.
+     *
+     * @param localDateTime The date time to convert.
+     * @return Returns the epoch seconds or {@link #NO_TIME}, if the date time is {@code null}.
+     */
+    private static long toEpochSecond(final @Nullable LocalDateTime localDateTime) {
+        return localDateTime == null ? NO_TIME : localDateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    /**
+     * Converts epoch seconds in UTC to a date time.
+     *
+     * @param epochSecond The epoch seconds.
+     * @return Returns the date time or {@code null}, if the epoch seconds are {@link #NO_TIME}.
+     */
+    private static @Nullable LocalDateTime fromEpochSecond(final long epochSecond) {
+        return epochSecond == NO_TIME ? null : LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+
+    /**
+     * A class representing the decoded data of a list.
+     */
+    public static class ListData {
+        private final String namespace;
+        private final String prefix;
+        private final RadarListVisibility visibility;
+        private final long version;
+        private final Map<UUID, RadarListEntry> playerMap;
+
+        /**
+         * Constructs a {@link ListData}.
+         *
+         * @param namespace The namespace of the list.
+         * @param prefix The prefix of the list.
+         * @param visibility The visibility of the list.
+         * @param version The version of the list.
+         * @param playerMap The entries of the list.
+         */
+        public ListData(final @NotNull String namespace, final @NotNull String prefix, final @NotNull RadarListVisibility visibility,
+                        final long version, final @NotNull Map<UUID, RadarListEntry> playerMap) {
+            this.namespace = namespace;
+            this.prefix = prefix;
+            this.visibility = visibility;
+            this.version = version;
+            this.playerMap = playerMap;
+        }
+
+        /**
+         * Gets the namespace of the list.
+         *
+         * @return Returns the namespace.
+         */
+        public @NotNull String getNamespace() {
+            return namespace;
+        }
+
+        /**
+         * Gets the prefix of the list.
+         *
+         * @return Returns the prefix.
+         */
+        public @NotNull String getPrefix() {
+            return prefix;
+        }
+
+        /**
+         * Gets the visibility of the list.
+         *
+         * @return Returns the visibility.
+         */
+        public @NotNull RadarListVisibility getVisibility() {
+            return visibility;
+        }
+
+        /**
+         * Gets the version of the list.
+         *
+         * @return Returns the version or {@code -1}, if the list is not versioned.
+         */
+        public long getVersion() {
+            return version;
+        }
+
+        /**
+         * Gets the entries of the list.
+         *
+         * @return Returns the player map.
+         */
+        public @NotNull Map<UUID, RadarListEntry> getPlayerMap() {
+            return playerMap;
+        }
+    }
+}
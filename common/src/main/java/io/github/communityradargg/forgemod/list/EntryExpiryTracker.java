@@ -0,0 +1,256 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.forgemod.list;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.github.communityradargg.forgemod.util.CommonHandler;
+import io.github.communityradargg.forgemod.util.PrefixMatcher;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Removes entries of private lists, whose expiry days have passed.
+ * <br><br>
+ * The deadlines are kept in a priority queue and a single timer wakes up at the earliest one, so the lists are never scanned periodically.
+ * All entries due at the same time are removed as one batch, each affected list is saved once and only the removed players are updated.
+ * Deadlines of entries, which were changed or removed in the meantime, are recognized as outdated when they are due and skipped.
+ */
+@SuppressWarnings("UnstableApiUsage")
+public class EntryExpiryTracker {
+    private static final Logger LOGGER = LogManager.getLogger(EntryExpiryTracker.class);
+    // the timer wakes up at least hourly, so that a changed system clock or a suspended computer delays the expiry by at most an hour
+    private static final long MAX_WAKE_UP_DELAY_MILLIS = TimeUnit.HOURS.toMillis(1);
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+            .setNameFormat(CommonHandler.MOD_ID + "-entry-expiry-%d")
+            .setDaemon(true)
+            .build());
+    private final PriorityQueue<Deadline> deadlines = new PriorityQueue<>();
+    private final Set<Deadline> trackedDeadlines = new HashSet<>();
+    private final CommonHandler commonHandler;
+    private ScheduledFuture<?> wakeUp;
+    private long wakeUpTime = Long.MAX_VALUE;
+
+    /**
+     * Constructs a {@link EntryExpiryTracker}.
+     *
+     * @param commonHandler The common handler.
+     */
+    public EntryExpiryTracker(final @NotNull CommonHandler commonHandler) {
+        this.commonHandler = commonHandler;
+    }
+
+    /**
+     * Tracks the deadlines of all expiring entries of a private list. Lists, whose entries are not loaded yet, are tracked once they are loaded.
+     *
+     * @param list The list to track.
+     */
+    public void trackList(final @NotNull RadarList list) {
+        if (list.getRadarListVisibility() != RadarListVisibility.PRIVATE || !list.isEntriesLoaded()) {
+            return;
+        }
+
+        for (final RadarListEntry entry : list.getPlayerMap().values()) {
+            trackEntry(list, entry);
+        }
+    }
+
+    /**
+     * Tracks the deadline of an entry of a private list, if the entry expires.
+     *
+     * @param list The list of the entry.
+     * @param entry The entry to track.
+     */
+    public void trackEntry(final @NotNull RadarList list, final @NotNull RadarListEntry entry) {
+        final long deadlineTime = getDeadlineTime(entry);
+        if (list.getRadarListVisibility() != RadarListVisibility.PRIVATE || deadlineTime == Long.MAX_VALUE) {
+            return;
+        }
+
+        synchronized (this) {
+            final Deadline deadline = new Deadline(list, entry.uuid(), deadlineTime);
+            if (trackedDeadlines.add(deadline)) {
+                deadlines.add(deadline);
+                if (deadlineTime < wakeUpTime) {
+                    scheduleWakeUp();
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the time in epoch milliseconds, at which an entry expires.
+     * The expiry days are counted from the last update of the entry, or from its creation, if it was never updated.
+     *
+     * @param entry The entry.
+     * @return Returns the time, at which the entry expires or {@link Long#MAX_VALUE}, if the entry does not expire.
+     */
+    static long getDeadlineTime(final @NotNull RadarListEntry entry) {
+        final LocalDateTime baseDate = entry.entryUpdateDate() == null ? entry.entryCreationDate() : entry.entryUpdateDate();
+        if (entry.expiryDays() < 0 || baseDate == null) {
+            return Long.MAX_VALUE;
+        }
+        return baseDate.plusDays(entry.expiryDays()).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * Schedules the timer for the earliest deadline. An already scheduled timer is replaced.
+     */
+    private synchronized void scheduleWakeUp() {
+        if (wakeUp != null) {
+            wakeUp.cancel(false);
+            wakeUp = null;
+        }
+
+        final Deadline earliest = deadlines.peek();
+        if (earliest == null) {
+            wakeUpTime = Long.MAX_VALUE;
+            return;
+        }
+
+        wakeUpTime = earliest.time;
+        final long delayMillis = Math.min(Math.max(earliest.time - System.currentTimeMillis(), 0), MAX_WAKE_UP_DELAY_MILLIS);
+        wakeUp = scheduler.schedule(this::expireDueEntries, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Collects all due entries as one batch and schedules the timer for the next deadline.
+     * The entries are removed on the client thread, because it reads the lists for the decoration of the players.
+     */
+    private void expireDueEntries() {
+        final Map<RadarList, Set<UUID>> dueEntries = new HashMap<>();
+        synchronized (this) {
+            final long now = System.currentTimeMillis();
+            while (!deadlines.isEmpty() && deadlines.peek().time <= now) {
+                final Deadline deadline = deadlines.poll();
+                trackedDeadlines.remove(deadline);
+                dueEntries.computeIfAbsent(deadline.list, list -> new HashSet<>()).add(deadline.uuid);
+            }
+        }
+
+        if (!dueEntries.isEmpty()) {
+            commonHandler.runOnClientThread(() -> removeExpiredEntries(dueEntries));
+        }
+        scheduleWakeUp();
+    }
+
+    /**
+     * Removes the due entries, which are still expired, and updates the removed players. This method should be called on the client thread.
+     *
+     * @param dueEntries The uuids of the due entries by their list.
+     */
+    private void removeExpiredEntries(final @NotNull Map<RadarList, Set<UUID>> dueEntries) {
+        try {
+            final PrefixMatcher prefixMatcher = commonHandler.getPrefixMatcher();
+            final Set<UUID> expiredUuids = new HashSet<>();
+            dueEntries.forEach((list, uuids) -> expiredUuids.addAll(expireEntries(list, uuids)));
+            if (!expiredUuids.isEmpty()) {
+                commonHandler.updatePlayersByUuids(expiredUuids, prefixMatcher);
+            }
+        } catch (final RuntimeException e) {
+            LOGGER.error("Could not remove expired entries", e);
+        }
+    }
+
+    /**
+     * Removes the due entries of a list, which are still expired. The list is saved once on the I/O executor.
+     *
+     * @param list The list.
+     * @param uuids The uuids of the due entries.
+     * @return Returns the uuids of the removed entries.
+     */
+    private @NotNull Set<UUID> expireEntries(final @NotNull RadarList list, final @NotNull Set<UUID> uuids) {
+        // the list may have been deleted since the deadline was tracked
+        if (commonHandler.getListManager().getRadarList(list.getNamespace()).orElse(null) != list) {
+            return new HashSet<>();
+        }
+
+        final long now = System.currentTimeMillis();
+        final Set<UUID> expiredUuids = new HashSet<>();
+        for (final UUID uuid : uuids) {
+            // the entry may have been removed or its expiry changed since the deadline was tracked
+            list.getRadarListEntry(uuid)
+                    .filter(entry -> getDeadlineTime(entry) <= now)
+                    .ifPresent(entry -> expiredUuids.add(uuid));
+        }
+
+        if (!expiredUuids.isEmpty()) {
+            list.removeRadarListEntries(expiredUuids);
+            LOGGER.info("Removed {} expired entries from list '{}'", expiredUuids.size(), list.getNamespace());
+        }
+        return expiredUuids;
+    }
+
+    /**
+     * A class representing the deadline of an entry.
+     */
+    private static class Deadline implements Comparable<Deadline> {
+        private final RadarList list;
+        private final UUID uuid;
+        private final long time;
+
+        /**
+         * Constructs a {@link Deadline}.
+         *
+         * @param list The list of the entry.
+         * @param uuid The uuid of the entry.
+         * @param time The time in epoch milliseconds, at which the entry expires.
+         */
+        private Deadline(final @NotNull RadarList list, final @NotNull UUID uuid, final long time) {
+            this.list = list;
+            this.uuid = uuid;
+            this.time = time;
+        }
+
+        @Override
+        public int compareTo(final @NotNull Deadline other) {
+            return Long.compare(time, other.time);
+        }
+
+        @Override
+        public boolean equals(final @Nullable Object object) {
+            if (this == object) {
+                return true;
+            }
+            if (!(object instanceof Deadline)) {
+                return false;
+            }
+
+            final Deadline other = (Deadline) object;
+            return list == other.list && time == other.time && uuid.equals(other.uuid);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(list), uuid, time);
+        }
+    }
+}
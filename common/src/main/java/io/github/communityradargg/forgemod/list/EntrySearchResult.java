@@ -0,0 +1,67 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.forgemod.list;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A class representing a single result of an entry search.
+ */
+public class EntrySearchResult {
+    private final RadarList list;
+    private final RadarListEntry entry;
+    private final int score;
+
+    /**
+     * Constructs a {@link EntrySearchResult}.
+     *
+     * @param list The list of the found entry.
+     * @param entry The found entry.
+     * @param score The score of the result, higher scores match better.
+     */
+    public EntrySearchResult(final @NotNull RadarList list, final @NotNull RadarListEntry entry, final int score) {
+        this.list = list;
+        this.entry = entry;
+        this.score = score;
+    }
+
+    /**
+     * Gets the list of the found entry.
+     *
+     * @return Returns the list of the found entry.
+     */
+    public @NotNull RadarList getList() {
+        return list;
+    }
+
+    /**
+     * Gets the found entry.
+     *
+     * @return Returns the found entry.
+     */
+    public @NotNull RadarListEntry getEntry() {
+        return entry;
+    }
+
+    /**
+     * Gets the score of the result.
+     *
+     * @return Returns the score of the result.
+     */
+    public int getScore() {
+        return score;
+    }
+}
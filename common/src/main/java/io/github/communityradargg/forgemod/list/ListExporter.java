@@ -0,0 +1,174 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.forgemod.list;
+
+import com.google.gson.stream.JsonWriter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Exports the entries of a list to a file.
+ * <br><br>
+ * The entries are written one by one while iterating the list, so that the document is never built in memory.
+ * Both formats start with the player name and cause, so that exported files can be imported again.
+ */
+public class ListExporter {
+    private static final DateTimeFormatter FILE_NAME_DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    /**
+     * The formats a list can be exported to.
+     */
+    public enum Format {
+        CSV(".csv"),
+        JSON(".json");
+
+        private final String extension;
+
+        /**
+         * Constructs a {@link Format}.
+         *
+         * @param extension The file extension of the format.
+         */
+        Format(final @NotNull String extension) {
+            this.extension = extension;
+        }
+
+        /**
+         * Gets a format by its name.
+         *
+         * @param name The name of the format, case-insensitive.
+         * @return Returns an optional with the found format.
+         */
+        public static @NotNull Optional<Format> byName(final @NotNull String name) {
+            return Arrays.stream(values())
+                    .filter(format -> format.name().equalsIgnoreCase(name))
+                    .findFirst();
+        }
+    }
+
+    /**
+     * Exports entries to a new file in a directory. The file is named after the namespace and the current time and only appears, once it is complete.
+     *
+     * @param namespace The namespace of the list.
+     * @param entries The entries to export, which must not be changed while they are exported.
+     * @param format The format of the file.
+     * @param directory The directory to create the file in.
+     * @return Returns the path of the created file.
+     * @throws IOException Thrown, if the file could not be written.
+     */
+    public static @NotNull Path export(final @NotNull String namespace, final @NotNull Map<UUID, RadarListEntry> entries, final @NotNull Format format,
+                                       final @NotNull Path directory) throws IOException {
+        Files.createDirectories(directory);
+        final String fileName = namespace.toLowerCase(Locale.ENGLISH) + "-" + LocalDateTime.now().format(FILE_NAME_DATE_FORMATTER);
+        final Path path = directory.resolve(fileName + format.extension);
+        final Path temporaryPath = directory.resolve(fileName + format.extension + ".tmp");
+        try (final BufferedWriter writer = Files.newBufferedWriter(temporaryPath, StandardCharsets.UTF_8)) {
+            if (format == Format.CSV) {
+                writeCsv(writer, entries);
+            } else {
+                writeJson(writer, entries);
+            }
+        } catch (final IOException e) {
+            Files.deleteIfExists(temporaryPath);
+            throw e;
+        }
+        Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING);
+        return path;
+    }
+
+    /**
+     * Writes the entries as CSV with a header line.
+     *
+     * @param writer The writer.
+     * @param entries The entries.
+     * @throws IOException Thrown, if the entries could not be written.
+     */
+    private static void writeCsv(final @NotNull Writer writer, final @NotNull Map<UUID, RadarListEntry> entries) throws IOException {
+        writer.write("name,cause,uuid,entryCreatedAt,entryUpdatedAt,expiryDays\n");
+        for (final RadarListEntry entry : entries.values()) {
+            writer.write(escapeCsv(entry.name()));
+            writer.write(',');
+            writer.write(escapeCsv(entry.cause()));
+            writer.write(',');
+            writer.write(entry.uuid().toString());
+            writer.write(',');
+            writer.write(formatDateTime(entry.entryCreationDate()));
+            writer.write(',');
+            writer.write(formatDateTime(entry.entryUpdateDate()));
+            writer.write(',');
+            writer.write(String.valueOf(entry.expiryDays()));
+            writer.write('\n');
+        }
+    }
+
+    /**
+     * Writes the entries as compact JSON array in the format of the public lists.
+     *
+     * @param writer The writer.
+     * @param entries The entries.
+     * @throws IOException Thrown, if the entries could not be written.
+     */
+    private static void writeJson(final @NotNull Writer writer, final @NotNull Map<UUID, RadarListEntry> entries) throws IOException {
+        final JsonWriter jsonWriter = new JsonWriter(writer);
+        jsonWriter.beginArray();
+        for (final RadarListEntry entry : entries.values()) {
+            ListManager.GSON.toJson(entry, RadarListEntry.class, jsonWriter);
+        }
+        jsonWriter.endArray();
+        jsonWriter.flush();
+    }
+
+    /**
+     * Quotes a CSV value, if it contains a separator, a quote or a line break.
+     *
+     * @param value The value.
+     * @return Returns the escaped value or an empty string, if the value is {@code null}.
+     */
+    private static @NotNull String escapeCsv(final @Nullable String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf(';') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * Formats a date time for CSV.
+     *
+     * @param localDateTime The date time.
+     * @return Returns the formatted date time or an empty string, if the date time is {@code null}.
+     */
+    private static @NotNull String formatDateTime(final @Nullable LocalDateTime localDateTime) {
+        return localDateTime == null ? "" : localDateTime.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+    }
+}
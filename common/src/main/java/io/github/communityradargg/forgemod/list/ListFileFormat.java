@@ -0,0 +1,64 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.forgemod.list;
+
+import org.jetbrains.annotations.NotNull;
+import java.util.Optional;
+
+/**
+ * An enum representing the file formats of the private lists.
+ */
+public enum ListFileFormat {
+    /** The pretty-printed json format. */
+    JSON(".json"),
+    /** The compact binary format of {@link BinaryListFormat}. */
+    BINARY(".radar");
+
+    private final String extension;
+
+    /**
+     * Constructs a {@link ListFileFormat}.
+     *
+     * @param extension The file extension of the format.
+     */
+    ListFileFormat(final @NotNull String extension) {
+        this.extension = extension;
+    }
+
+    /**
+     * Gets the file extension of the format.
+     *
+     * @return Returns the file extension including the dot.
+     */
+    public @NotNull String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Gets the format of a file by its name.
+     *
+     * @param fileName The file name.
+     * @return Returns an optional with the format of the file.
+     */
+    public static @NotNull Optional<ListFileFormat> byFileName(final @NotNull String fileName) {
+        for (final ListFileFormat format : values()) {
+            if (fileName.endsWith(format.extension)) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.forgemod.list;
+
+import io.github.communityradargg.forgemod.util.PlayerInfo;
+import org.jetbrains.annotations.NotNull;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * An immutable view of the entries and prefixes of all lists, which can be searched on any thread.
+ * The lists replace their entries instead of changing them, so the snapshot only keeps the current entries of every list.
+ * The snapshot has to be created on the client thread. Later changes to the lists are not visible in it.
+ */
+public class ListIndexSnapshot {
+    private static final Comparator<RadarListEntry> ENTRY_NAME_ORDER = Comparator.comparing(RadarListEntry::name, String.CASE_INSENSITIVE_ORDER)
+            .thenComparing(RadarListEntry::uuid);
+    private final String[] namespaces;
+    private final String[] prefixes;
+    private final List<Map<UUID, RadarListEntry>> entries;
+
+    /**
+     * Constructs a {@link ListIndexSnapshot}.
+     *
+     * @param lists The lists in the order they are searched.
+     */
+    ListIndexSnapshot(final @NotNull List<RadarList> lists) {
+        this.namespaces = new String[lists.size()];
+        this.prefixes = new String[lists.size()];
+        this.entries = new ArrayList<>(lists.size());
+        for (int i = 0; i < lists.size(); i++) {
+            final RadarList list = lists.get(i);
+            namespaces[i] = list.getNamespace();
+            prefixes[i] = list.getPrefix();
+            entries.add(list.getEntriesSnapshot());
+        }
+    }
+
+    /**
+     * Searches the given players in the lists on the given executor.
+     * Like {@link ListManager#getRadarListEntry(UUID)}, a player is only assigned to the first list containing it.
+     *
+     * @param players The players to search, which must not be changed anymore.
+     * @param executor The executor to search on.
+     * @return Returns a completable future with the found players grouped by list. The groups are sorted by namespace and the entries by name.
+     */
+    public @NotNull CompletableFuture<List<Group>> findPlayers(final @NotNull List<PlayerInfo> players, final @NotNull Executor executor) {
+        // a tab list has a few hundred players at most, which are looked up faster than tasks for parts of them are scheduled
+        return CompletableFuture.supplyAsync(() -> createGroups(findEntries(players)), executor);
+    }
+
+    /**
+     * Searches the given players in the lists.
+     *
+     * @param players The players to search.
+     * @return Returns the found entries by the index of their list.
+     */
+    private @NotNull List<List<RadarListEntry>> findEntries(final @NotNull List<PlayerInfo> players) {
+        final List<List<RadarListEntry>> found = new ArrayList<>(namespaces.length);
+        for (int i = 0; i < namespaces.length; i++) {
+            found.add(new ArrayList<>());
+        }
+
+        for (final PlayerInfo player : players) {
+            final UUID uuid = player.getUuid();
+            if (uuid == null) {
+                continue;
+            }
+
+            for (int i = 0; i < namespaces.length; i++) {
+                final RadarListEntry entry = entries.get(i).get(uuid);
+                if (entry != null) {
+                    found.get(i).add(entry);
+                    break;
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Sorts the found entries into groups.
+     *
+     * @param found The found entries by the index of their list.
+     * @return Returns the groups of all lists with at least one found entry.
+     */
+    private @NotNull List<Group> createGroups(final @NotNull List<List<RadarListEntry>> found) {
+        final List<Group> groups = new ArrayList<>();
+        for (int i = 0; i < namespaces.length; i++) {
+            final List<RadarListEntry> groupEntries = found.get(i);
+            if (!groupEntries.isEmpty()) {
+                groupEntries.sort(ENTRY_NAME_ORDER);
+                groups.add(new Group(namespaces[i], prefixes[i], Collections.unmodifiableList(groupEntries)));
+            }
+        }
+        groups.sort(Comparator.comparing(Group::getNamespace, String.CASE_INSENSITIVE_ORDER));
+        return groups;
+    }
+
+    /**
+     * The found entries of a single list.
+     */
+    public static class Group {
+        private final String namespace;
+        private final String prefix;
+        private final List<RadarListEntry> entries;
+
+        /**
+         * Constructs a {@link Group}.
+         *
+         * @param namespace The namespace of the list.
+         * @param prefix The prefix of the list at the time of the snapshot.
+         * @param entries The found entries sorted by name.
+         */
+        private Group(final @NotNull String namespace, final @NotNull String prefix, final @NotNull List<RadarListEntry> entries) {
+            this.namespace = namespace;
+            this.prefix = prefix;
+            this.entries = entries;
+        }
+
+        /**
+         * Gets the namespace of the list.
+         *
+         * @return Returns the namespace.
+         */
+        public @NotNull String getNamespace() {
+            return namespace;
+        }
+
+        /**
+         * Gets the prefix of the list at the time of the snapshot.
+         *
+         * @return Returns the prefix.
+         */
+        public @NotNull String getPrefix() {
+            return prefix;
+        }
+
+        /**
+         * Gets the found entries sorted by name.
+         *
+         * @return Returns the entries.
+         */
+        public @NotNull List<RadarListEntry> getEntries() {
+            return entries;
+        }
+    }
+}
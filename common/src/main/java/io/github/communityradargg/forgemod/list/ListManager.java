@@ -15,35 +15,55 @@
  */
 package io.github.communityradargg.forgemod.list;
 
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonIOException;
 import com.google.gson.JsonSyntaxException;
 import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
 import io.github.communityradargg.forgemod.list.adapters.GsonLocalDateTimeAdapter;
 import io.github.communityradargg.forgemod.list.adapters.GsonRadarListPlayerMapAdapter;
+import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileReader;
-import java.io.FileWriter;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import io.github.communityradargg.forgemod.util.CommonHandler;
+import io.github.communityradargg.forgemod.util.PrefixMatcher;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
 
 /**
  * A class containing the methods to manage lists.
@@ -58,17 +78,27 @@ public class ListManager {
     private final CommonHandler commonHandler;
     private final List<RadarList> lists;
     private final String directoryPath;
+    private final SharedListDirectory sharedDirectory;
+    private final ListFileFormat privateListFormat;
+    private final File cacheDirectory;
+    private final AtomicLong listVersion = new AtomicLong();
+    private volatile Set<String> existingPrefixes = Collections.emptySet();
+    private final Map<Path, HashCode> ownWrites = new ConcurrentHashMap<>();
 
     /**
      * Constructs a {@link ListManager}
      *
      * @param commonHandler The common handler.
+     * @param privateListFormat The format private lists are saved in.
      */
-    public ListManager(final @NotNull CommonHandler commonHandler) {
-        this.lists = new ArrayList<>();
+    public ListManager(final @NotNull CommonHandler commonHandler, final @NotNull ListFileFormat privateListFormat) {
+        this.privateListFormat = privateListFormat;
+        this.lists = new CopyOnWriteArrayList<>();
         this.commonHandler = commonHandler;
 
         directoryPath = createDirectoryPath();
+        sharedDirectory = new SharedListDirectory(Paths.get(directoryPath));
+        cacheDirectory = Paths.get(new File("").getAbsolutePath(), "communityradar", "cache").toFile();
     }
 
     /**
@@ -137,6 +167,60 @@ public class ListManager {
                 .flatMap(list -> list.getRadarListEntry(uuid));
     }
 
+    /**
+     * Creates a snapshot of all lists, which can be searched on another thread. This method should be called on the client thread.
+     *
+     * @return Returns the snapshot.
+     */
+    public @NotNull ListIndexSnapshot createIndexSnapshot() {
+        return new ListIndexSnapshot(new ArrayList<>(lists));
+    }
+
+    /**
+     * Searches the entries of all lists by their names and causes on the I/O executor.
+     * Every word of the query is matched case-insensitive against the beginning of the names and the words of the causes.
+     * A list, whose entries changed since its last search, is searched in its previous state, until its new index is built.
+     *
+     * @param query The search query.
+     * @param limit The maximum number of results.
+     * @return Returns a future with the results ordered by their score, the best result first.
+     */
+    public @NotNull CompletableFuture<List<EntrySearchResult>> searchEntries(final @NotNull String query, final int limit) {
+        final List<String> queryTokens = new ArrayList<>(ListSearchIndex.tokenize(query));
+        if (queryTokens.isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+
+        final List<RadarList> searchedLists = new ArrayList<>(lists);
+        final List<CompletableFuture<ListSearchIndex>> searchIndexes = searchedLists.stream()
+                .map(RadarList::getSearchIndex)
+                .collect(Collectors.toList());
+        return CompletableFuture.allOf(searchIndexes.toArray(new CompletableFuture<?>[0]))
+                // a list without an index is skipped, the failed build is logged by the list
+                .handle((ignored, throwable) -> null)
+                .thenApplyAsync(ignored -> {
+                    final List<EntrySearchResult> results = new ArrayList<>();
+                    for (int i = 0; i < searchedLists.size(); i++) {
+                        if (searchIndexes.get(i).isCompletedExceptionally()) {
+                            continue;
+                        }
+
+                        final RadarList list = searchedLists.get(i);
+                        final ListSearchIndex searchIndex = searchIndexes.get(i).join();
+                        searchIndex.search(queryTokens).forEach((uuid, score) -> {
+                            final RadarListEntry entry = searchIndex.getEntry(uuid);
+                            if (entry != null) {
+                                results.add(new EntrySearchResult(list, entry, score));
+                            }
+                        });
+                    }
+
+                    results.sort(Comparator.comparingInt(EntrySearchResult::getScore).reversed()
+                            .thenComparing(result -> String.valueOf(result.getEntry().name()), String.CASE_INSENSITIVE_ORDER));
+                    return results.size() > limit ? new ArrayList<>(results.subList(0, limit)) : results;
+                }, commonHandler.getIoExecutor());
+    }
+
     /**
      * Gets an optional with a {@link RadarList} by a given namespace.
      *
@@ -178,8 +262,57 @@ public class ListManager {
         return false;
     }
 
+    /**
+     * Adds multiple player entries to a private list and saves the list once on the I/O executor. Players, which are already on a list, are skipped.
+     * The entries must be added on the client thread, which reads the lists every tick.
+     *
+     * @param namespace The namespace of the list.
+     * @param entries The entries to add.
+     * @return Returns the added entries.
+     */
+    public @NotNull List<RadarListEntry> addRadarListEntries(final @NotNull String namespace, final @NotNull Collection<RadarListEntry> entries) {
+        final Optional<RadarList> listOptional = getRadarList(namespace);
+        if (!listOptional.isPresent() || listOptional.get().getRadarListVisibility() != RadarListVisibility.PRIVATE) {
+            return Collections.emptyList();
+        }
+
+        final Set<UUID> addedUuids = new HashSet<>();
+        final List<RadarListEntry> addedEntries = entries.stream()
+                .filter(entry -> !getRadarListEntry(entry.uuid()).isPresent() && addedUuids.add(entry.uuid()))
+                .collect(Collectors.toList());
+        listOptional.get().addRadarListEntries(addedEntries);
+        return addedEntries;
+    }
+
+    /**
+     * Sets the days after which the entry of a player on a private list expires. The days are counted from now on.
+     *
+     * @param namespace The namespace of the list.
+     * @param uuid The player uuid of the entry.
+     * @param expiryDays The days after which the entry expires or {@code -1}, if it does not expire.
+     * @return Returns, whether the expiry of the entry was set.
+     */
+    public boolean setRadarListEntryExpiry(final @NotNull String namespace, final @NotNull UUID uuid, final int expiryDays) {
+        final Optional<RadarList> listOptional = getRadarList(namespace);
+        if (!listOptional.isPresent() || listOptional.get().getRadarListVisibility() != RadarListVisibility.PRIVATE) {
+            return false;
+        }
+
+        final RadarList list = listOptional.get();
+        final RadarListEntry entry = list.getLoadedPlayerMap().get(uuid);
+        if (entry == null) {
+            return false;
+        }
+
+        list.addRadarListEntry(new RadarListEntry(uuid, entry.name(), entry.cause(), entry.entryCreationDate(), LocalDateTime.now(), Math.max(expiryDays, -1)));
+        return true;
+    }
+
     /**
      * Saves a radar list to disk if it is a private one.
+     * <br><br>
+     * The list directory is locked while saving. If the file was written by another instance in the meantime,
+     * it is read again and the local changes are applied to it before it is written, so that no changes are lost.
      *
      * @param list The list to save.
      */
@@ -188,11 +321,79 @@ public class ListManager {
             return;
         }
 
-        try (final FileWriter writer = new FileWriter(directoryPath + list.getNamespace() + ".json")) {
-            writer.write(GSON.toJson(list));
+        // loads the entries of a lazily loaded list, so that they are not lost
+        list.getLoadedPlayerMap();
+        final Path currentPath = Paths.get(list.getUrl()).toAbsolutePath().normalize();
+        final Path path = Paths.get(directoryPath + list.getNamespace() + privateListFormat.getExtension()).toAbsolutePath().normalize();
+        final PrefixMatcher oldPrefixes = commonHandler.getPrefixMatcher();
+        final Set<UUID> changedUuids = sharedDirectory.runLocked(() -> {
+            final Set<UUID> mergedUuids = mergeWithFile(list, currentPath);
+            final byte[] content = serializeRadarList(list, privateListFormat);
+            ownWrites.put(path, Hashing.murmur3_128().hashBytes(content));
+            try {
+                writeAtomically(path, content);
+            } catch (final IOException e) {
+                LOGGER.error("Could not save list", e);
+                return mergedUuids;
+            }
+
+            list.clearPendingChanges();
+            sharedDirectory.announceChange(path.getFileName().toString());
+            if (!currentPath.equals(path)) {
+                // the list was converted to another format, so the old file would load the list twice
+                try {
+                    Files.deleteIfExists(currentPath);
+                    sharedDirectory.announceChange(currentPath.getFileName().toString());
+                } catch (final IOException e) {
+                    LOGGER.error("Could not delete the old list file {}", currentPath, e);
+                }
+                list.setUrl(path.toString());
+            }
+            return mergedUuids;
+        });
+
+        if (!changedUuids.isEmpty()) {
+            if (!oldPrefixes.getPrefixes().contains(list.getPrefix())) {
+                markPrefixesChanged();
+            }
+            // the entries written by the other instance may expire
+            commonHandler.getEntryExpiryTracker().trackList(list);
+            commonHandler.updatePlayersByUuids(changedUuids, oldPrefixes);
+        }
+    }
+
+    /**
+     * Merges the local changes of a list into its file, if the file was written by another instance since the last own write.
+     *
+     * @param list The list to merge.
+     * @param path The path of the list file.
+     * @return Returns the uuids of the players, whose membership changed by the merge.
+     */
+    private @NotNull Set<UUID> mergeWithFile(final @NotNull RadarList list, final @NotNull Path path) {
+        if (!Files.isRegularFile(path)) {
+            return Collections.emptySet();
+        }
+
+        final byte[] content;
+        try {
+            content = Files.readAllBytes(path);
         } catch (final IOException e) {
-            LOGGER.error("Could not save list", e);
+            LOGGER.error("Could not read list file {} for merging", path, e);
+            return Collections.emptySet();
         }
+
+        if (Hashing.murmur3_128().hashBytes(content).equals(ownWrites.get(path))) {
+            return Collections.emptySet();
+        }
+
+        final Optional<RadarList> fileListOptional = deserializeRadarList(content, path);
+        if (!fileListOptional.isPresent()) {
+            return Collections.emptySet();
+        }
+
+        final Set<UUID> changedUuids = list.mergePendingChanges(fileListOptional.get());
+        LOGGER.info("Merged list '{}' with the changes of another instance, {} players changed", list.getNamespace(), changedUuids.size());
+        return changedUuids;
     }
 
     /**
@@ -209,7 +410,8 @@ public class ListManager {
             return false;
         }
 
-        lists.add(new RadarList(commonHandler, namespace, prefix, directoryPath + namespace + ".json", RadarListVisibility.PRIVATE));
+        lists.add(new RadarList(commonHandler, namespace, prefix, directoryPath + namespace + privateListFormat.getExtension(), RadarListVisibility.PRIVATE));
+        markPrefixesChanged();
 
         final Optional<RadarList> listOptional = getRadarList(namespace);
         if (!listOptional.isPresent()) {
@@ -221,32 +423,86 @@ public class ListManager {
     }
 
     /**
-     * Registers a public list.
+     * Registers public lists. The lists are fetched and parsed concurrently on the given executor
+     * and are registered together, after all of them have been loaded.
      *
-     * @param namespace The namespace of the list.
-     * @param prefix The prefix of the list.
-     * @return Returns, whether the list was successfully registered.
+     * @param publicLists The public lists to register.
+     * @param executor The executor to fetch the lists on.
+     * @return Returns the registered lists.
      */
-    @SuppressWarnings("BooleanMethodIsAlwaysInverted") // better understanding of code logic
-    public boolean registerPublicList(final @NotNull String namespace, final @NotNull String prefix, final @NotNull String url) {
-        final boolean namespaceExists = getNamespaces().stream()
-                .anyMatch(namespace::equalsIgnoreCase);
-        if (namespaceExists) {
+    public @NotNull List<RadarList> registerPublicLists(final @NotNull List<RadarList> publicLists, final @NotNull Executor executor) {
+        final List<RadarList> listsToLoad = prepareToRegister(publicLists);
+        final long startTime = System.nanoTime();
+        final CompletableFuture<?>[] futures = listsToLoad.stream()
+                .map(list -> CompletableFuture.runAsync(() -> loadPublicList(list), executor))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(futures)
+                .exceptionally(throwable -> null)
+                .join();
+        LOGGER.info("Loaded {} public lists in {} ms", listsToLoad.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+
+        lists.addAll(listsToLoad);
+        markPrefixesChanged();
+        return listsToLoad;
+    }
+
+    /**
+     * Registers a single public list, if it can be loaded. The list is loaded on the calling thread.
+     * Unlike {@link #registerPublicLists(List, Executor)}, a list, which could not be loaded, is not registered.
+     *
+     * @param list The public list to register.
+     * @return Returns, whether the list was loaded and registered.
+     */
+    public boolean registerPublicList(final @NotNull RadarList list) {
+        if (prepareToRegister(Collections.singletonList(list)).isEmpty()) {
             return false;
         }
 
-        lists.add(new RadarList(commonHandler, namespace, prefix, url, RadarListVisibility.PUBLIC));
+        if (!loadPublicList(list)) {
+            LOGGER.warn("Public list '{}' is not registered, because it could not be loaded", list.getNamespace());
+            return false;
+        }
+
+        lists.add(list);
+        markPrefixesChanged();
         return true;
     }
 
     /**
-     * Adds a radar list if it is not null.
+     * Checks public lists before they are registered and sets their cache files.
      *
-     * @param list The nullable radar list.
+     * @param publicLists The public lists to register.
+     * @return Returns the public lists, which can be registered.
      */
-    private void addRadarList(final @Nullable RadarList list) {
-        if (list != null) {
-            lists.add(list);
+    private @NotNull List<RadarList> prepareToRegister(final @NotNull List<RadarList> publicLists) {
+        final Set<String> namespaces = new HashSet<>();
+        getNamespaces().forEach(namespace -> namespaces.add(namespace.toLowerCase(Locale.ENGLISH)));
+
+        final List<RadarList> preparedLists = new ArrayList<>();
+        for (final RadarList list : publicLists) {
+            if (list.getRadarListVisibility() != RadarListVisibility.PUBLIC || !namespaces.add(list.getNamespace().toLowerCase(Locale.ENGLISH))) {
+                LOGGER.error("Could not register public list '{}'!", list.getNamespace());
+                continue;
+            }
+            list.setCacheFile(new File(cacheDirectory, list.getNamespace() + ListFileFormat.BINARY.getExtension()));
+            preparedLists.add(list);
+        }
+        return preparedLists;
+    }
+
+    /**
+     * Loads a public list. The list itself logs its transfer size and load time.
+     *
+     * @param list The public list to load.
+     * @return Returns, whether the list was loaded without a failure.
+     */
+    private boolean loadPublicList(final @NotNull RadarList list) {
+        try {
+            list.load();
+            return !list.getLastFailureTime().isPresent();
+        } catch (final RuntimeException e) {
+            LOGGER.error("Could not load public list '{}'", list.getNamespace(), e);
+            return false;
         }
     }
 
@@ -268,21 +524,69 @@ public class ListManager {
         }
 
         final File file = new File(list.getUrl());
-        if (file.exists() && !file.delete()) {
+        final boolean deleted = sharedDirectory.runLocked(() -> {
+            if (file.exists() && !file.delete()) {
+                return false;
+            }
+
+            sharedDirectory.announceChange(file.getName());
+            return true;
+        });
+        if (!deleted) {
             return false;
         }
 
         lists.remove(list);
+        markPrefixesChanged();
         return true;
     }
 
     /**
-     * Loads the private lists from disk.
+     * Unregisters a public list by its namespace.
+     *
+     * @param namespace The namespace of the list.
+     * @return Returns, whether the list was successfully unregistered.
      */
-    public void loadPrivateLists() {
-        getJsonUrls(directoryPath)
-                .forEach(jsonUrl -> loadRadarListFromFile(jsonUrl)
-                        .ifPresent(this::addRadarList));
+    public boolean unregisterPublicList(final @NotNull String namespace) {
+        final Optional<RadarList> listOptional = getRadarList(namespace);
+        if (!listOptional.isPresent() || listOptional.get().getRadarListVisibility() != RadarListVisibility.PUBLIC) {
+            return false;
+        }
+
+        lists.remove(listOptional.get());
+        markPrefixesChanged();
+        return true;
+    }
+
+    /**
+     * Loads the private lists from disk. The list files are parsed concurrently on the given executor and are registered together.
+     *
+     * @param executor The executor to parse the lists on.
+     * @param lazy Whether only the header of the json lists is loaded and their entries are loaded in the background on the first lookup.
+     */
+    public void loadPrivateLists(final @NotNull Executor executor, final boolean lazy) {
+        final long startTime = System.nanoTime();
+        final List<CompletableFuture<Optional<RadarList>>> futures = getListPaths(Paths.get(directoryPath)).stream()
+                .map(path -> CompletableFuture.supplyAsync(() -> lazy && path.toString().endsWith(ListFileFormat.JSON.getExtension())
+                                ? loadRadarListHeaderFromFile(path.toString()) : loadRadarListFromFile(path.toString()), executor)
+                        .exceptionally(throwable -> {
+                            LOGGER.error("Could not load list from file {}", path, throwable);
+                            return Optional.empty();
+                        }))
+                .collect(Collectors.toList());
+
+        final List<RadarList> loadedLists = new ArrayList<>();
+        for (final CompletableFuture<Optional<RadarList>> future : futures) {
+            future.join().ifPresent(loadedLists::add);
+        }
+
+        if (!loadedLists.isEmpty()) {
+            lists.addAll(loadedLists);
+            markPrefixesChanged();
+            loadedLists.forEach(commonHandler.getEntryExpiryTracker()::trackList);
+        }
+        LOGGER.info("Loaded {} private lists{} in {} ms", loadedLists.size(), lazy ? " lazily" : "",
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
     }
 
     /**
@@ -292,46 +596,328 @@ public class ListManager {
      * @return Returns an optional with the loaded radar list.
      */
     private @NotNull Optional<RadarList> loadRadarListFromFile(final @NotNull String filePath) {
-        try (final FileReader reader = new FileReader(filePath)) {
+        if (filePath.endsWith(ListFileFormat.BINARY.getExtension())) {
+            try {
+                return createRadarList(BinaryListFormat.read(Paths.get(filePath)), filePath);
+            } catch (final IOException e) {
+                LOGGER.error("Could not load list from file", e);
+            }
+            return Optional.empty();
+        }
+
+        try (final Reader reader = new BufferedReader(new InputStreamReader(new FileInputStream(filePath), StandardCharsets.UTF_8))) {
+            return parseRadarList(reader, filePath);
+        } catch (final IOException e) {
+            LOGGER.error("Could not load list from file", e);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Serializes a radar list in a given format.
+     *
+     * @param list The list to serialize.
+     * @param format The format.
+     * @return Returns the serialized list.
+     */
+    private byte[] serializeRadarList(final @NotNull RadarList list, final @NotNull ListFileFormat format) {
+        if (format == ListFileFormat.BINARY) {
+            return BinaryListFormat.encode(list.getNamespace(), list.getPrefix(), list.getRadarListVisibility(), -1, list.getPlayerMap().values());
+        }
+        return GSON.toJson(list).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Deserializes a radar list in the format of its file.
+     *
+     * @param content The content of the file.
+     * @param path The path of the file.
+     * @return Returns an optional with the deserialized list.
+     */
+    private @NotNull Optional<RadarList> deserializeRadarList(final byte[] content, final @NotNull Path path) {
+        if (path.toString().endsWith(ListFileFormat.BINARY.getExtension())) {
+            try {
+                return createRadarList(BinaryListFormat.decode(ByteBuffer.wrap(content)), path.toString());
+            } catch (final IOException e) {
+                LOGGER.error("Could not load list from file", e);
+            }
+            return Optional.empty();
+        }
+        return parseRadarList(new StringReader(new String(content, StandardCharsets.UTF_8)), path.toString());
+    }
+
+    /**
+     * Creates a radar list from the data of a binary list file. The list is validated like a parsed json list.
+     *
+     * @param data The data of the list.
+     * @param filePath The path to the file of the list.
+     * @return Returns an optional with the created list, which is empty if the list is invalid.
+     */
+    private @NotNull Optional<RadarList> createRadarList(final @NotNull BinaryListFormat.ListData data, final @NotNull String filePath) {
+        final RadarList list = new RadarList(commonHandler, data.getNamespace(), data.getPrefix(), filePath, data.getVisibility());
+        list.replaceEntries(data.getPlayerMap());
+        if (!list.validateList()) {
+            LOGGER.error("Invalid list in file {}", filePath);
+            return Optional.empty();
+        }
+        return Optional.of(list);
+    }
+
+    /**
+     * Writes a list file through a temporary file, which replaces the file at once.
+     * Binary list files are memory-mapped while they are read, so they must never be truncated or written in place.
+     *
+     * @param path The path of the list file.
+     * @param content The content to write.
+     * @throws IOException If the file could not be written.
+     */
+    private static void writeAtomically(final @NotNull Path path, final byte[] content) throws IOException {
+        final Path temporaryPath = path.resolveSibling(path.getFileName() + ".tmp");
+        Files.write(temporaryPath, content);
+        try {
+            Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final AtomicMoveNotSupportedException e) {
+            Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Parses a radar list.
+     *
+     * @param reader The reader to parse the list from.
+     * @param filePath The path to the file of the list.
+     * @return Returns an optional with the parsed radar list.
+     */
+    private @NotNull Optional<RadarList> parseRadarList(final @NotNull Reader reader, final @NotNull String filePath) {
+        try {
             final RadarList list = GSON.fromJson(reader, new TypeToken<RadarList>() {}.getType());
+            if (list == null) {
+                return Optional.empty();
+            }
+
             list.setCommonHandler(commonHandler);
             list.setUrl(filePath);
             if (list.validateList()) {
                 return Optional.of(list);
             }
-        } catch (final IOException | IllegalStateException | JsonIOException | JsonSyntaxException e) {
+        } catch (final IllegalStateException | JsonIOException | JsonSyntaxException e) {
             LOGGER.error("Could not load list from file", e);
         }
         return Optional.empty();
     }
 
     /**
-     * Gets the json urls for the directory paths.
+     * Reloads a private list file after it was changed outside the mod. Changes written by the mod itself are ignored.
+     * The entries of an already loaded list are replaced at once and only the players, whose membership changed, are returned.
+     *
+     * @param path The path of the changed file.
+     * @return Returns the uuids of the players, whose membership changed.
+     */
+    public @NotNull Set<UUID> reloadPrivateListFile(final @NotNull Path path) {
+        final Path normalizedPath = path.toAbsolutePath().normalize();
+        final Optional<RadarList> existingList = getRadarListByPath(normalizedPath);
+        if (!Files.isRegularFile(normalizedPath)) {
+            ownWrites.remove(normalizedPath);
+            if (!existingList.isPresent()) {
+                return Collections.emptySet();
+            }
+
+            lists.remove(existingList.get());
+            markPrefixesChanged();
+            LOGGER.info("Removed list '{}', because its file was deleted", existingList.get().getNamespace());
+            return new HashSet<>(existingList.get().getPlayerMap().keySet());
+        }
+
+        // the file is read while holding the lock, so that a file is not read while another instance writes it
+        final byte[] content = sharedDirectory.runLocked(() -> {
+            try {
+                return Files.readAllBytes(normalizedPath);
+            } catch (final IOException e) {
+                LOGGER.error("Could not read changed list file {}", normalizedPath, e);
+                return null;
+            }
+        });
+        if (content == null) {
+            return Collections.emptySet();
+        }
+
+        if (Hashing.murmur3_128().hashBytes(content).equals(ownWrites.get(normalizedPath))) {
+            return Collections.emptySet();
+        }
+
+        // an invalid file may still be written, it is reloaded with the next change
+        final Optional<RadarList> listOptional = deserializeRadarList(content, normalizedPath);
+        if (!listOptional.isPresent()) {
+            return Collections.emptySet();
+        }
+
+        final RadarList loadedList = listOptional.get();
+        if (!existingList.isPresent()) {
+            if (getRadarList(loadedList.getNamespace()).isPresent()) {
+                LOGGER.warn("Ignoring list file {}, a list with the namespace '{}' already exists", normalizedPath, loadedList.getNamespace());
+                return Collections.emptySet();
+            }
+
+            lists.add(loadedList);
+            markPrefixesChanged();
+            commonHandler.getEntryExpiryTracker().trackList(loadedList);
+            LOGGER.info("Added list '{}' from changed file", loadedList.getNamespace());
+            return new HashSet<>(loadedList.getPlayerMap().keySet());
+        }
+
+        final RadarList list = existingList.get();
+        final Set<UUID> oldUuids = list.getPlayerMap().keySet();
+        final Set<UUID> newUuids = loadedList.getPlayerMap().keySet();
+        final Set<UUID> changedUuids = new HashSet<>();
+        if (!list.getPrefix().equals(loadedList.getPrefix())) {
+            // all players of the list need a new prefix
+            changedUuids.addAll(oldUuids);
+            changedUuids.addAll(newUuids);
+            list.applyExternalPrefix(loadedList.getPrefix());
+        } else {
+            oldUuids.stream()
+                    .filter(uuid -> !newUuids.contains(uuid))
+                    .forEach(changedUuids::add);
+            newUuids.stream()
+                    .filter(uuid -> !oldUuids.contains(uuid))
+                    .forEach(changedUuids::add);
+        }
+
+        list.replaceEntries(loadedList.getPlayerMap());
+        commonHandler.getEntryExpiryTracker().trackList(list);
+        LOGGER.info("Reloaded list '{}' from changed file, {} players changed", list.getNamespace(), changedUuids.size());
+        return changedUuids;
+    }
+
+    /**
+     * Gets an optional with a private {@link RadarList} by the path of its file.
+     *
+     * @param path The normalized absolute path of the file.
+     * @return Returns an optional with the found list.
+     */
+    private @NotNull Optional<RadarList> getRadarListByPath(final @NotNull Path path) {
+        return lists.stream()
+                .filter(list -> list.getRadarListVisibility() == RadarListVisibility.PRIVATE)
+                .filter(list -> Paths.get(list.getUrl()).toAbsolutePath().normalize().equals(path))
+                .findFirst();
+    }
+
+    /**
+     * Gets the shared list directory, which coordinates the access of multiple instances to the private lists.
+     *
+     * @return Returns the shared list directory.
+     */
+    public @NotNull SharedListDirectory getSharedDirectory() {
+        return sharedDirectory;
+    }
+
+    /**
+     * Gets the directory of the private lists.
+     *
+     * @return Returns the directory path.
+     */
+    public @NotNull Path getDirectory() {
+        return Paths.get(directoryPath);
+    }
+
+    /**
+     * Loads only the header of a radar list from a file. The entries are skipped while parsing and loaded on the first lookup.
+     *
+     * @param filePath The path to the file.
+     * @return Returns an optional with the loaded radar list.
+     */
+    private @NotNull Optional<RadarList> loadRadarListHeaderFromFile(final @NotNull String filePath) {
+        try (final JsonReader reader = new JsonReader(new BufferedReader(new InputStreamReader(new FileInputStream(filePath), StandardCharsets.UTF_8)))) {
+            String namespace = null;
+            String prefix = null;
+            RadarListVisibility visibility = null;
+
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "namespace":
+                        namespace = reader.nextString();
+                        break;
+                    case "prefix":
+                        prefix = reader.nextString();
+                        break;
+                    case "visibility":
+                        visibility = GSON.fromJson(reader, RadarListVisibility.class);
+                        break;
+                    default:
+                        reader.skipValue();
+                        break;
+                }
+            }
+            reader.endObject();
+
+            if (namespace != null && prefix != null && visibility == RadarListVisibility.PRIVATE) {
+                final RadarList list = new RadarList(commonHandler, namespace, prefix, filePath, visibility);
+                list.loadEntriesLazily();
+                return Optional.of(list);
+            }
+        } catch (final IOException | IllegalStateException | JsonIOException | JsonSyntaxException e) {
+            LOGGER.error("Could not load list header from file", e);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Gets the paths of the list files in a directory. Subdirectories are not scanned.
      *
-     * @param directoryPath The directory path.
-     * @return Returns a set with all json urls.
+     * @param directory The directory path.
+     * @return Returns a sorted list with all list file paths.
      */
-    private @NotNull Set<String> getJsonUrls(final @NotNull String directoryPath) {
-        try (final Stream<Path> paths = Files.walk(Paths.get(directoryPath))) {
-            return paths
-                    .filter(Files::isRegularFile)
-                    .map(Path::toString)
-                    .filter(string -> string.endsWith(".json"))
-                    .collect(Collectors.toSet());
+    private @NotNull List<Path> getListPaths(final @NotNull Path directory) {
+        final List<Path> paths = new ArrayList<>();
+        try (final DirectoryStream<Path> directoryStream = Files.newDirectoryStream(directory, "*.{json,radar}")) {
+            for (final Path path : directoryStream) {
+                if (Files.isRegularFile(path)) {
+                    paths.add(path);
+                }
+            }
         } catch (final IOException e) {
-            LOGGER.error("Could not get json urls", e);
+            LOGGER.error("Could not get list paths", e);
         }
-        return new HashSet<>();
+        Collections.sort(paths);
+        return paths;
     }
 
     /**
-     * Gets all existing prefixes.
+     * Gets all existing prefixes. The returned set is immutable and the same instance is returned until the prefixes change.
      *
      * @return Returns a set with all existing prefixes.
      */
     public @NotNull Set<String> getExistingPrefixes() {
-        return lists.stream()
+        return existingPrefixes;
+    }
+
+    /**
+     * Gets the list version. It changes whenever a list, its prefix or its entries change, so it can be used to check if a decoration is still current.
+     *
+     * @return Returns the list version.
+     */
+    public long getListVersion() {
+        return listVersion.get();
+    }
+
+    /**
+     * Marks the lists as changed by increasing the list version.
+     */
+    public void markListsChanged() {
+        listVersion.incrementAndGet();
+    }
+
+    /**
+     * Marks the prefixes as changed by collecting the existing prefixes again and increasing the list version.
+     */
+    public synchronized void markPrefixesChanged() {
+        final Set<String> prefixes = lists.stream()
                 .map(RadarList::getPrefix)
                 .collect(Collectors.toSet());
+        if (!prefixes.equals(existingPrefixes)) {
+            existingPrefixes = Collections.unmodifiableSet(prefixes);
+        }
+        markListsChanged();
     }
 }
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.forgemod.list;
+
+import com.google.gson.annotations.SerializedName;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A class representing the manifest of a public list, which announces the current version of the list, its integrity data and the available patches.
+ */
+public class ListManifest {
+    @SerializedName("version")
+    private long version;
+    @SerializedName("sha256")
+    private String sha256;
+    @SerializedName("entryCount")
+    private Integer entryCount;
+    @SerializedName("patches")
+    private List<PatchReference> patches;
+
+    /**
+     * Gets the current version of the list.
+     *
+     * @return Returns the current version.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Gets the published SHA-256 hash of the full list in hexadecimal form.
+     *
+     * @return Returns the hash or {@code null}, if none is published.
+     */
+    public @Nullable String getSha256() {
+        return sha256;
+    }
+
+    /**
+     * Gets the published number of entries of the full list.
+     *
+     * @return Returns the entry count or {@code null}, if none is published.
+     */
+    public @Nullable Integer getEntryCount() {
+        return entryCount;
+    }
+
+    /**
+     * Builds the chain of patches to update a list from a given version to the current version.
+     *
+     * @param fromVersion The version of the list, which should be updated.
+     * @return Returns the ordered patches or {@code null}, if the chain is broken.
+     */
+    public @Nullable List<PatchReference> getPatchChain(final long fromVersion) {
+        final List<PatchReference> chain = new ArrayList<>();
+        if (patches == null) {
+            return fromVersion == version ? chain : null;
+        }
+
+        long currentVersion = fromVersion;
+        while (currentVersion < version) {
+            PatchReference next = null;
+            for (final PatchReference patch : patches) {
+                if (patch != null && patch.from == currentVersion && patch.to > currentVersion && patch.to <= version && patch.url != null
+                        && (next == null || patch.to > next.to)) {
+                    next = patch;
+                }
+            }
+
+            if (next == null) {
+                return null;
+            }
+            chain.add(next);
+            currentVersion = next.to;
+        }
+        return currentVersion == version ? chain : null;
+    }
+
+    /**
+     * Validates the loaded manifest.
+     *
+     * @return Returns, whether the manifest is valid or not.
+     */
+    public boolean validateManifest() {
+        return version >= 0;
+    }
+
+    /**
+     * A class representing a reference to a patch file in the manifest.
+     */
+    public static class PatchReference {
+        @SerializedName("from")
+        private long from;
+        @SerializedName("to")
+        private long to;
+        @SerializedName("url")
+        private String url;
+
+        /**
+         * Gets the version the patch is based on.
+         *
+         * @return Returns the base version.
+         */
+        public long getFrom() {
+            return from;
+        }
+
+        /**
+         * Gets the version the patch leads to.
+         *
+         * @return Returns the target version.
+         */
+        public long getTo() {
+            return to;
+        }
+
+        /**
+         * Gets the url of the patch file. It may be relative to the manifest url.
+         *
+         * @return Returns the url.
+         */
+        public @NotNull String getUrl() {
+            return url;
+        }
+    }
+}
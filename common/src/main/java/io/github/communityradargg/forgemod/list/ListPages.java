@@ -0,0 +1,110 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.forgemod.list;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * The player names of a list split into pages for the chat.
+ * The names are sorted once and the page boundaries are computed up front, so that showing a page only copies its names.
+ * A page ends after a maximum number of names or characters, whatever is reached first, so that long names do not produce oversized chat messages.
+ */
+public class ListPages {
+    private static final int MAX_NAMES_PER_PAGE = 100;
+    private static final int MAX_CHARACTERS_PER_PAGE = 1500;
+    private static final int SEPARATOR_LENGTH = 2;
+    private final long listVersion;
+    private final String[] names;
+    private final int[] pageStarts;
+
+    /**
+     * Constructs a {@link ListPages}.
+     *
+     * @param listVersion The list version, the pages were computed for.
+     * @param entries The entries of the list.
+     */
+    ListPages(final long listVersion, final @NotNull Collection<RadarListEntry> entries) {
+        this.listVersion = listVersion;
+        names = entries.stream()
+                .map(entry -> String.valueOf(entry.name()))
+                .sorted(String.CASE_INSENSITIVE_ORDER)
+                .toArray(String[]::new);
+
+        final List<Integer> starts = new ArrayList<>();
+        int pageNames = 0;
+        int pageCharacters = 0;
+        for (int i = 0; i < names.length; i++) {
+            final int length = names[i].length() + SEPARATOR_LENGTH;
+            if (i == 0 || pageNames == MAX_NAMES_PER_PAGE || pageCharacters + length > MAX_CHARACTERS_PER_PAGE) {
+                starts.add(i);
+                pageNames = 0;
+                pageCharacters = 0;
+            }
+            pageNames++;
+            pageCharacters += length;
+        }
+        pageStarts = starts.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Checks, whether the pages are still current.
+     *
+     * @param currentListVersion The current list version.
+     * @return Returns, whether the pages were computed for the current list version.
+     */
+    boolean isCurrent(final long currentListVersion) {
+        return listVersion == currentListVersion;
+    }
+
+    /**
+     * Gets the number of pages.
+     *
+     * @return Returns the number of pages, which is zero for an empty list.
+     */
+    public int getPageCount() {
+        return pageStarts.length;
+    }
+
+    /**
+     * Gets the total number of names.
+     *
+     * @return Returns the number of names.
+     */
+    public int getNameCount() {
+        return names.length;
+    }
+
+    /**
+     * Gets the names of a page.
+     *
+     * @param page The page number, starting at one.
+     * @return Returns the sorted names of the page.
+     * @throws IndexOutOfBoundsException Thrown, if the page does not exist.
+     */
+    public @NotNull List<String> getPage(final int page) {
+        if (page < 1 || page > pageStarts.length) {
+            throw new IndexOutOfBoundsException("Page " + page + " of " + pageStarts.length);
+        }
+
+        final int end = page == pageStarts.length ? names.length : pageStarts[page];
+        return Arrays.asList(Arrays.copyOfRange(names, pageStarts[page - 1], end));
+    }
+}
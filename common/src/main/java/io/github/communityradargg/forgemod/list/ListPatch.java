@@ -0,0 +1,65 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.forgemod.list;
+
+import com.google.gson.annotations.SerializedName;
+import org.jetbrains.annotations.NotNull;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * A class representing an incremental patch of a public list with the added and removed entries between two versions.
+ */
+public class ListPatch {
+    @SerializedName("from")
+    private long from;
+    @SerializedName("to")
+    private long to;
+    @SerializedName("added")
+    private List<RadarListEntry> added;
+    @SerializedName("removed")
+    private List<UUID> removed;
+
+    /**
+     * Validates the patch against the reference it was loaded for.
+     *
+     * @param reference The reference of the manifest.
+     * @return Returns, whether the patch is valid or not.
+     */
+    public boolean validatePatch(final @NotNull ListManifest.PatchReference reference) {
+        return from == reference.getFrom() && to == reference.getTo();
+    }
+
+    /**
+     * Applies the patch to a player map. Removals are applied before additions, so an updated entry can be both removed and added.
+     *
+     * @param playerMap The player map to apply the patch to.
+     */
+    public void applyTo(final @NotNull Map<UUID, RadarListEntry> playerMap) {
+        if (removed != null) {
+            removed.forEach(playerMap::remove);
+        }
+
+        if (added != null) {
+            for (final RadarListEntry entry : added) {
+                if (entry != null && entry.uuid() != null) {
+                    playerMap.put(entry.uuid(), entry);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,342 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.forgemod.list;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * A search index over the entries of a single list.
+ * <br><br>
+ * The lower case names are kept in a sorted array, so that all names with a given prefix are found with a binary search.
+ * The causes are split into tokens, which map to the distinct causes containing them, and every distinct cause maps to the uuids of its entries.
+ * Public list causes repeat heavily, so the token map stays small even for large lists.
+ * <br><br>
+ * The index is never changed after it was built, so that it is searched without holding the monitor of its list.
+ * Single changes of a list create a new index, which shares the built structures and keeps the changed entries in a small delta, which is searched entry by entry.
+ * The list builds a new index, when the delta grew large or the entries of the list were replaced.
+ */
+class ListSearchIndex {
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}_!]+");
+    // limits the work per query token for very short prefixes of large lists
+    private static final int MAX_CANDIDATES_PER_TOKEN = 512;
+    private static final int NAME_EXACT_SCORE = 100;
+    private static final int NAME_PREFIX_SCORE = 60;
+    private static final int CAUSE_EXACT_SCORE = 40;
+    private static final int CAUSE_PREFIX_SCORE = 20;
+    private final Map<UUID, RadarListEntry> source;
+    private final String[] names;
+    private final long[] uuidMostSignificantBits;
+    private final long[] uuidLeastSignificantBits;
+    private final int size;
+    private final TreeMap<String, Set<String>> causesByToken;
+    private final Map<String, UuidPostings> postingsByCause;
+    // the entries added or replaced after the build and the uuids of the built entries, which were removed or replaced since
+    private final Map<UUID, RadarListEntry> addedEntries;
+    private final Set<UUID> removedUuids;
+
+    /**
+     * Constructs a {@link ListSearchIndex} with all entries of a player map.
+     *
+     * @param source The player map to index, which must not be changed afterwards.
+     */
+    ListSearchIndex(final @NotNull Map<UUID, RadarListEntry> source) {
+        this.source = source;
+        final List<RadarListEntry> entries = new ArrayList<>(source.values());
+        names = new String[entries.size()];
+        uuidMostSignificantBits = new long[entries.size()];
+        uuidLeastSignificantBits = new long[entries.size()];
+        causesByToken = new TreeMap<>();
+        postingsByCause = new HashMap<>();
+        addedEntries = Collections.emptyMap();
+        removedUuids = Collections.emptySet();
+
+        final String[] lowerCaseNames = new String[entries.size()];
+        final Integer[] order = new Integer[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            lowerCaseNames[i] = normalizeName(entries.get(i).name());
+            order[i] = i;
+            addCause(entries.get(i));
+        }
+        Arrays.sort(order, Comparator.comparing(i -> lowerCaseNames[i]));
+        for (int position = 0; position < order.length; position++) {
+            final RadarListEntry entry = entries.get(order[position]);
+            names[position] = lowerCaseNames[order[position]];
+            uuidMostSignificantBits[position] = entry.uuid().getMostSignificantBits();
+            uuidLeastSignificantBits[position] = entry.uuid().getLeastSignificantBits();
+        }
+        size = entries.size();
+    }
+
+    /**
+     * Constructs a {@link ListSearchIndex}, which shares the built structures of another index and has its own delta.
+     *
+     * @param index The index to share the built structures of.
+     * @param addedEntries The entries added or replaced after the build.
+     * @param removedUuids The uuids of the built entries, which were removed or replaced since.
+     */
+    private ListSearchIndex(final @NotNull ListSearchIndex index, final @NotNull Map<UUID, RadarListEntry> addedEntries, final @NotNull Set<UUID> removedUuids) {
+        this.source = index.source;
+        this.names = index.names;
+        this.uuidMostSignificantBits = index.uuidMostSignificantBits;
+        this.uuidLeastSignificantBits = index.uuidLeastSignificantBits;
+        this.size = index.size;
+        this.causesByToken = index.causesByToken;
+        this.postingsByCause = index.postingsByCause;
+        this.addedEntries = addedEntries;
+        this.removedUuids = removedUuids;
+    }
+
+    /**
+     * Creates an index with single changed entries of the list. This index stays unchanged.
+     *
+     * @param changedEntries The added or replaced entries.
+     * @param changedRemovedUuids The uuids of the removed entries.
+     * @return Returns the new index.
+     */
+    @NotNull ListSearchIndex withChanges(final @NotNull Collection<RadarListEntry> changedEntries, final @NotNull Collection<UUID> changedRemovedUuids) {
+        final Map<UUID, RadarListEntry> newAddedEntries = new HashMap<>(addedEntries);
+        final Set<UUID> newRemovedUuids = new HashSet<>(removedUuids);
+        for (final UUID uuid : changedRemovedUuids) {
+            newAddedEntries.remove(uuid);
+            if (source.containsKey(uuid)) {
+                newRemovedUuids.add(uuid);
+            }
+        }
+
+        for (final RadarListEntry entry : changedEntries) {
+            newAddedEntries.put(entry.uuid(), entry);
+            if (source.containsKey(entry.uuid())) {
+                newRemovedUuids.add(entry.uuid());
+            }
+        }
+        return new ListSearchIndex(this, newAddedEntries, newRemovedUuids);
+    }
+
+    /**
+     * Gets the number of changes in the delta of the index.
+     *
+     * @return Returns the number of added and removed entries since the build.
+     */
+    int getChangeCount() {
+        return addedEntries.size() + removedUuids.size();
+    }
+
+    /**
+     * Gets an indexed entry by its uuid.
+     *
+     * @param uuid The uuid of the entry.
+     * @return Returns the entry or {@code null}, if the uuid is not indexed.
+     */
+    @Nullable RadarListEntry getEntry(final @NotNull UUID uuid) {
+        final RadarListEntry addedEntry = addedEntries.get(uuid);
+        if (addedEntry != null || removedUuids.contains(uuid)) {
+            return addedEntry;
+        }
+        return source.get(uuid);
+    }
+
+    /**
+     * Searches the index. Every query token is matched against the name prefixes and the cause tokens.
+     * The best match of a token counts for an entry and the scores of all tokens are summed up.
+     *
+     * @param queryTokens The lower case query tokens.
+     * @return Returns the scores of the matching entries by their uuid.
+     */
+    @NotNull Map<UUID, Integer> search(final @NotNull List<String> queryTokens) {
+        final Map<UUID, Integer> scores = new HashMap<>();
+        for (final String token : queryTokens) {
+            final Map<UUID, Integer> tokenScores = new HashMap<>();
+            int candidates = 0;
+            for (int position = lowerBound(token); position < size && names[position].startsWith(token) && candidates < MAX_CANDIDATES_PER_TOKEN; position++) {
+                final UUID uuid = new UUID(uuidMostSignificantBits[position], uuidLeastSignificantBits[position]);
+                if (!removedUuids.contains(uuid)) {
+                    tokenScores.merge(uuid, nameScore(names[position], token), Math::max);
+                    candidates++;
+                }
+            }
+
+            for (final Map.Entry<String, Set<String>> tokenEntry : causesByToken.subMap(token, true, token + Character.MAX_VALUE, false).entrySet()) {
+                final int score = tokenEntry.getKey().length() == token.length() ? CAUSE_EXACT_SCORE : CAUSE_PREFIX_SCORE;
+                for (final String cause : tokenEntry.getValue()) {
+                    final UuidPostings postings = postingsByCause.get(cause);
+                    for (int i = 0; i < postings.size && candidates < MAX_CANDIDATES_PER_TOKEN; i++) {
+                        final UUID uuid = new UUID(postings.bits[i * 2], postings.bits[i * 2 + 1]);
+                        if (!removedUuids.contains(uuid)) {
+                            tokenScores.merge(uuid, score, Math::max);
+                            candidates++;
+                        }
+                    }
+                }
+            }
+
+            // the delta is small, so its entries are matched one by one
+            for (final RadarListEntry entry : addedEntries.values()) {
+                final int score = Math.max(nameScore(normalizeName(entry.name()), token), causeScore(entry.cause(), token));
+                if (score > 0) {
+                    tokenScores.merge(entry.uuid(), score, Math::max);
+                }
+            }
+            tokenScores.forEach((uuid, score) -> scores.merge(uuid, score, Integer::sum));
+        }
+        return scores;
+    }
+
+    /**
+     * Scores a lower case name for a query token.
+     *
+     * @param name The lower case name.
+     * @param token The query token.
+     * @return Returns the score or {@code 0}, if the name does not start with the token.
+     */
+    private static int nameScore(final @NotNull String name, final @NotNull String token) {
+        if (!name.startsWith(token)) {
+            return 0;
+        }
+        // shorter names are closer to the query and rank higher
+        return name.length() == token.length() ? NAME_EXACT_SCORE : NAME_PREFIX_SCORE - Math.min(name.length() - token.length(), NAME_PREFIX_SCORE / 2);
+    }
+
+    /**
+     * Scores a cause for a query token.
+     *
+     * @param cause The cause.
+     * @param token The query token.
+     * @return Returns the score of the best matching cause token or {@code 0}, if no cause token starts with the query token.
+     */
+    private static int causeScore(final @Nullable String cause, final @NotNull String token) {
+        int score = 0;
+        for (final String causeToken : tokenize(cause)) {
+            if (causeToken.equals(token)) {
+                return CAUSE_EXACT_SCORE;
+            }
+            if (causeToken.startsWith(token)) {
+                score = CAUSE_PREFIX_SCORE;
+            }
+        }
+        return score;
+    }
+
+    /**
+     * Splits a text into lower case tokens.
+     *
+     * @param text The text.
+     * @return Returns the distinct tokens of the text.
+     */
+    static @NotNull Set<String> tokenize(final @Nullable String text) {
+        if (text == null || text.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        final Set<String> tokens = new HashSet<>();
+        for (final String token : TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Adds the cause of an entry to the cause index.
+     *
+     * @param entry The entry.
+     */
+    private void addCause(final @NotNull RadarListEntry entry) {
+        final String cause = entry.cause();
+        if (cause == null) {
+            return;
+        }
+
+        UuidPostings postings = postingsByCause.get(cause);
+        if (postings == null) {
+            postings = new UuidPostings();
+            postingsByCause.put(cause, postings);
+            for (final String token : tokenize(cause)) {
+                causesByToken.computeIfAbsent(token, key -> new HashSet<>()).add(cause);
+            }
+        }
+        postings.add(entry.uuid().getMostSignificantBits(), entry.uuid().getLeastSignificantBits());
+    }
+
+    /**
+     * Gets the first position of the sorted names, whose name is not smaller than a given one.
+     *
+     * @param name The name.
+     * @return Returns the position.
+     */
+    private int lowerBound(final @NotNull String name) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (names[middle].compareTo(name) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Normalizes a name for the index.
+     *
+     * @param name The name.
+     * @return Returns the lower case name or an empty string, if the name is {@code null}.
+     */
+    private static @NotNull String normalizeName(final @Nullable String name) {
+        return name == null ? "" : name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * A growable list of uuids, which are stored as pairs of longs.
+     */
+    private static class UuidPostings {
+        private long[] bits = new long[8];
+        private int size;
+
+        /**
+         * Adds an uuid.
+         *
+         * @param mostSignificantBits The most significant bits of the uuid.
+         * @param leastSignificantBits The least significant bits of the uuid.
+         */
+        private void add(final long mostSignificantBits, final long leastSignificantBits) {
+            if (size * 2 == bits.length) {
+                bits = Arrays.copyOf(bits, bits.length * 2);
+            }
+            bits[size * 2] = mostSignificantBits;
+            bits[size * 2 + 1] = leastSignificantBits;
+            size++;
+        }
+    }
+}
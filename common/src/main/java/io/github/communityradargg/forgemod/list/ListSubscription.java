@@ -0,0 +1,163 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.forgemod.list;
+
+import com.google.gson.annotations.SerializedName;
+import io.github.communityradargg.forgemod.util.CommonHandler;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A class representing a subscription to a remote list.
+ */
+public class ListSubscription {
+    public static final int DEFAULT_REFRESH_INTERVAL_MINUTES = 30;
+    public static final int MIN_REFRESH_INTERVAL_MINUTES = 5;
+    @SerializedName("namespace")
+    private final String namespace;
+    @SerializedName("prefix")
+    private final String prefix;
+    @SerializedName("url")
+    private final String url;
+    @SerializedName("refreshIntervalMinutes")
+    private final int refreshIntervalMinutes;
+    @SerializedName("manifestUrl")
+    private final String manifestUrl;
+    @SerializedName("mirrorUrls")
+    private final List<String> mirrorUrls;
+
+    /**
+     * Constructs a {@link ListSubscription}.
+     *
+     * @param namespace The namespace of the list.
+     * @param prefix The prefix of the list.
+     * @param url The url the list is fetched from.
+     * @param refreshIntervalMinutes The interval in minutes, in which the list is refreshed.
+     */
+    public ListSubscription(final @NotNull String namespace, final @NotNull String prefix, final @NotNull String url, final int refreshIntervalMinutes) {
+        this(namespace, prefix, url, refreshIntervalMinutes, null, Collections.emptyList());
+    }
+
+    /**
+     * Constructs a {@link ListSubscription}.
+     *
+     * @param namespace The namespace of the list.
+     * @param prefix The prefix of the list.
+     * @param url The url the list is fetched from.
+     * @param refreshIntervalMinutes The interval in minutes, in which the list is refreshed.
+     * @param manifestUrl The url of the manifest for incremental updates or {@code null}, if the list is always fully downloaded.
+     * @param mirrorUrls The mirror urls, which are tried in order, if the list could not be fetched from its url.
+     */
+    public ListSubscription(final @NotNull String namespace, final @NotNull String prefix, final @NotNull String url, final int refreshIntervalMinutes,
+                            final @Nullable String manifestUrl, final @NotNull List<String> mirrorUrls) {
+        this.namespace = namespace;
+        this.prefix = prefix;
+        this.url = url;
+        this.refreshIntervalMinutes = refreshIntervalMinutes;
+        this.manifestUrl = manifestUrl;
+        this.mirrorUrls = mirrorUrls;
+    }
+
+    /**
+     * Gets the namespace of the list.
+     *
+     * @return Returns the namespace.
+     */
+    public @NotNull String getNamespace() {
+        return namespace;
+    }
+
+    /**
+     * Gets the prefix of the list.
+     *
+     * @return Returns the prefix.
+     */
+    public @NotNull String getPrefix() {
+        return prefix;
+    }
+
+    /**
+     * Gets the url the list is fetched from.
+     *
+     * @return Returns the url.
+     */
+    public @NotNull String getUrl() {
+        return url;
+    }
+
+    /**
+     * Gets the url of the manifest for incremental updates.
+     *
+     * @return Returns the manifest url or {@code null}, if the list is always fully downloaded.
+     */
+    public @Nullable String getManifestUrl() {
+        return manifestUrl;
+    }
+
+    /**
+     * Gets the mirror urls, which are tried in order, if the list could not be fetched from its url.
+     *
+     * @return Returns the mirror urls.
+     */
+    public @NotNull List<String> getMirrorUrls() {
+        return mirrorUrls == null ? Collections.emptyList() : mirrorUrls;
+    }
+
+    /**
+     * Gets the refresh interval. Values below {@link #MIN_REFRESH_INTERVAL_MINUTES} are raised to it.
+     *
+     * @return Returns the refresh interval in minutes.
+     */
+    public int getRefreshIntervalMinutes() {
+        return Math.max(MIN_REFRESH_INTERVAL_MINUTES, refreshIntervalMinutes);
+    }
+
+    /**
+     * Validates the loaded subscription.
+     *
+     * @return Returns, whether the subscription is valid or not.
+     */
+    public boolean validateSubscription() {
+        return namespace != null && prefix != null && isHttpUrl(url)
+                && (manifestUrl == null || isHttpUrl(manifestUrl))
+                && getMirrorUrls().stream().allMatch(ListSubscription::isHttpUrl);
+    }
+
+    /**
+     * Checks if a given url is a http or https url.
+     *
+     * @param url The url to check.
+     * @return Returns, whether the url is a http or https url.
+     */
+    private static boolean isHttpUrl(final @Nullable String url) {
+        return url != null && (url.startsWith("https://") || url.startsWith("http://"));
+    }
+
+    /**
+     * Creates the public radar list for this subscription. The list is not loaded yet.
+     *
+     * @param commonHandler The common handler.
+     * @return Returns the created radar list.
+     */
+    public @NotNull RadarList createRadarList(final @NotNull CommonHandler commonHandler) {
+        final RadarList list = new RadarList(commonHandler, namespace, prefix, url, RadarListVisibility.PUBLIC);
+        list.setManifestUrl(manifestUrl);
+        list.setMirrorUrls(getMirrorUrls());
+        return list;
+    }
+}
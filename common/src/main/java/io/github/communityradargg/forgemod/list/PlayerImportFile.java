@@ -0,0 +1,217 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.forgemod.list;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads the players of an import file.
+ * <br><br>
+ * CSV files contain one player per line with the name in the first and an optional cause in the second column, separated by a comma or a semicolon.
+ * A header line starting with the column {@code name} is skipped. JSON files contain an array of names or of objects with a {@code name} and an optional {@code cause}.
+ * Names are deduplicated case-insensitive, the first occurrence wins.
+ */
+public class PlayerImportFile {
+    private final Map<String, Row> rows = new LinkedHashMap<>();
+
+    /**
+     * Reads an import file.
+     *
+     * @param path The path of the file. The format is chosen by the extension {@code .csv} or {@code .json}.
+     * @return Returns the read import file.
+     * @throws IOException Thrown, if the file could not be read or has an invalid format.
+     */
+    public static @NotNull PlayerImportFile read(final @NotNull Path path) throws IOException {
+        final PlayerImportFile importFile = new PlayerImportFile();
+        final String fileName = path.getFileName().toString().toLowerCase(Locale.ENGLISH);
+        try (final BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            if (fileName.endsWith(".csv")) {
+                importFile.readCsv(reader);
+            } else if (fileName.endsWith(".json")) {
+                importFile.readJson(reader);
+            } else {
+                throw new IOException("Unsupported file format, use .csv or .json");
+            }
+        }
+        return importFile;
+    }
+
+    /**
+     * Gets the deduplicated rows of the file in their original order.
+     *
+     * @return Returns the rows.
+     */
+    public @NotNull List<Row> getRows() {
+        return new ArrayList<>(rows.values());
+    }
+
+    /**
+     * Reads the rows of a CSV file.
+     *
+     * @param reader The reader of the file.
+     * @throws IOException Thrown, if the file could not be read.
+     */
+    private void readCsv(final @NotNull BufferedReader reader) throws IOException {
+        String line;
+        boolean firstLine = true;
+        while ((line = reader.readLine()) != null) {
+            final List<String> columns = splitCsvLine(line);
+            if (firstLine && !columns.isEmpty() && columns.get(0).equalsIgnoreCase("name")) {
+                firstLine = false;
+                continue;
+            }
+            firstLine = false;
+            if (!columns.isEmpty()) {
+                addRow(columns.get(0), columns.size() > 1 ? columns.get(1) : null);
+            }
+        }
+    }
+
+    /**
+     * Reads the rows of a JSON file.
+     *
+     * @param reader The reader of the file.
+     * @throws IOException Thrown, if the file has an invalid format.
+     */
+    private void readJson(final @NotNull BufferedReader reader) throws IOException {
+        try {
+            final JsonElement root = new JsonParser().parse(reader);
+            if (!root.isJsonArray()) {
+                throw new IOException("The file must contain a JSON array");
+            }
+
+            final JsonArray array = root.getAsJsonArray();
+            for (final JsonElement element : array) {
+                if (element.isJsonPrimitive()) {
+                    addRow(element.getAsString(), null);
+                } else if (element.isJsonObject() && element.getAsJsonObject().has("name")) {
+                    final JsonObject object = element.getAsJsonObject();
+                    addRow(object.get("name").getAsString(), object.has("cause") && !object.get("cause").isJsonNull() ? object.get("cause").getAsString() : null);
+                }
+            }
+        } catch (final JsonParseException | IllegalStateException | UnsupportedOperationException e) {
+            throw new IOException("Invalid JSON: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Adds a row, if its name is not empty and was not added before.
+     *
+     * @param name The player name.
+     * @param cause The cause or {@code null}, if the row has none.
+     */
+    private void addRow(final @NotNull String name, final @Nullable String cause) {
+        final String trimmedName = name.trim();
+        if (trimmedName.isEmpty()) {
+            return;
+        }
+
+        final String trimmedCause = cause == null || cause.trim().isEmpty() ? null : cause.trim();
+        rows.putIfAbsent(trimmedName.toLowerCase(Locale.ENGLISH), new Row(trimmedName, trimmedCause));
+    }
+
+    /**
+     * Splits a CSV line into its columns. Columns can be quoted with double quotes, which are escaped by doubling them.
+     *
+     * @param line The line.
+     * @return Returns the columns of the line or an empty list, if the line is blank.
+     */
+    private static @NotNull List<String> splitCsvLine(final @NotNull String line) {
+        final List<String> columns = new ArrayList<>();
+        if (line.trim().isEmpty()) {
+            return columns;
+        }
+
+        final StringBuilder column = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            final char character = line.charAt(i);
+            if (quoted) {
+                if (character == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    column.append('"');
+                    i++;
+                } else if (character == '"') {
+                    quoted = false;
+                } else {
+                    column.append(character);
+                }
+            } else if (character == '"') {
+                quoted = true;
+            } else if (character == ',' || character == ';') {
+                columns.add(column.toString());
+                column.setLength(0);
+            } else {
+                column.append(character);
+            }
+        }
+        columns.add(column.toString());
+        return columns;
+    }
+
+    /**
+     * A class representing a player of an import file.
+     */
+    public static class Row {
+        private final String name;
+        private final String cause;
+
+        /**
+         * Constructs a {@link Row}.
+         *
+         * @param name The player name.
+         * @param cause The cause or {@code null}, if the row has none.
+         */
+        private Row(final @NotNull String name, final @Nullable String cause) {
+            this.name = name;
+            this.cause = cause;
+        }
+
+        /**
+         * Gets the player name.
+         *
+         * @return Returns the player name.
+         */
+        public @NotNull String getName() {
+            return name;
+        }
+
+        /**
+         * Gets the cause.
+         *
+         * @return Returns the cause or {@code null}, if the row has none.
+         */
+        public @Nullable String getCause() {
+            return cause;
+        }
+    }
+}
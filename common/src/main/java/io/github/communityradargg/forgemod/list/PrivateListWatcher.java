@@ -0,0 +1,189 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.forgemod.list;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.github.communityradargg.forgemod.util.CommonHandler;
+import io.github.communityradargg.forgemod.util.PrefixMatcher;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches the directory of the private lists and reloads a list file, if it was changed outside the mod.
+ * Rapid changes of the same file are debounced, so that a file is only reloaded once it was not changed for a short time.
+ */
+@SuppressWarnings("UnstableApiUsage")
+public class PrivateListWatcher {
+    private static final Logger LOGGER = LogManager.getLogger(PrivateListWatcher.class);
+    private static final long DEBOUNCE_MILLIS = 500;
+    private static final long CHANGE_FILE_POLL_SECONDS = 2;
+    private final ScheduledExecutorService reloadExecutor = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+            .setNameFormat(CommonHandler.MOD_ID + "-list-reload-%d")
+            .setDaemon(true)
+            .build());
+    private final Map<Path, ScheduledFuture<?>> pendingReloads = new ConcurrentHashMap<>();
+    private final CommonHandler commonHandler;
+    private final Path directory;
+
+    /**
+     * Constructs a {@link PrivateListWatcher}.
+     *
+     * @param commonHandler The common handler.
+     * @param directory The directory of the private lists.
+     */
+    public PrivateListWatcher(final @NotNull CommonHandler commonHandler, final @NotNull Path directory) {
+        this.commonHandler = commonHandler;
+        this.directory = directory.toAbsolutePath().normalize();
+    }
+
+    /**
+     * Starts watching the directory on a daemon thread.
+     * The change file of the shared directory is polled additionally, because a watch service does not work on every file system.
+     */
+    public void start() {
+        reloadExecutor.scheduleWithFixedDelay(this::readAnnouncedChanges, CHANGE_FILE_POLL_SECONDS, CHANGE_FILE_POLL_SECONDS, TimeUnit.SECONDS);
+
+        final WatchService watchService;
+        try {
+            watchService = directory.getFileSystem().newWatchService();
+            directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        } catch (final IOException | UnsupportedOperationException e) {
+            LOGGER.error("Could not watch the list directory, changed list files are not reloaded", e);
+            return;
+        }
+
+        new ThreadFactoryBuilder()
+                .setNameFormat(CommonHandler.MOD_ID + "-list-watcher-%d")
+                .setDaemon(true)
+                .build()
+                .newThread(() -> watch(watchService))
+                .start();
+    }
+
+    /**
+     * Handles the events of the watch service until the thread is interrupted or the directory can no longer be watched.
+     *
+     * @param watchService The watch service.
+     */
+    private void watch(final @NotNull WatchService watchService) {
+        while (!Thread.currentThread().isInterrupted()) {
+            final WatchKey key;
+            try {
+                key = watchService.take();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (final ClosedWatchServiceException e) {
+                return;
+            }
+
+            for (final WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                    // events were lost, so every list file is checked
+                    scheduleReloadOfAllFiles();
+                    continue;
+                }
+
+                final Path path = directory.resolve((Path) event.context());
+                if (ListFileFormat.byFileName(path.getFileName().toString()).isPresent()) {
+                    scheduleReload(path);
+                } else if (path.getFileName().toString().equals(".changes")) {
+                    reloadExecutor.execute(this::readAnnouncedChanges);
+                }
+            }
+
+            if (!key.reset()) {
+                LOGGER.warn("The list directory can no longer be watched");
+                return;
+            }
+        }
+    }
+
+    /**
+     * Schedules the reload of the list files, whose changes were announced by other instances.
+     */
+    private void readAnnouncedChanges() {
+        try {
+            commonHandler.getListManager().getSharedDirectory().readChanges().stream()
+                    .filter(fileName -> ListFileFormat.byFileName(fileName).isPresent())
+                    .map(fileName -> directory.resolve(fileName).normalize())
+                    // only files directly in the list directory are reloaded
+                    .filter(path -> directory.equals(path.getParent()))
+                    .forEach(this::scheduleReload);
+        } catch (final RuntimeException e) {
+            LOGGER.error("Could not read the announced list changes", e);
+        }
+    }
+
+    /**
+     * Schedules the reload of all list files in the directory.
+     */
+    private void scheduleReloadOfAllFiles() {
+        try (final DirectoryStream<Path> directoryStream = Files.newDirectoryStream(directory, "*.{json,radar}")) {
+            directoryStream.forEach(this::scheduleReload);
+        } catch (final IOException e) {
+            LOGGER.error("Could not scan the list directory", e);
+        }
+    }
+
+    /**
+     * Schedules the reload of a file. A pending reload of the same file is replaced, so that the file is reloaded once after the last change.
+     *
+     * @param path The path of the changed file.
+     */
+    private void scheduleReload(final @NotNull Path path) {
+        final ScheduledFuture<?> previousReload = pendingReloads.put(path, reloadExecutor.schedule(() -> reload(path), DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS));
+        if (previousReload != null) {
+            previousReload.cancel(false);
+        }
+    }
+
+    /**
+     * Reloads a changed file and schedules the update of the players, whose membership changed.
+     *
+     * @param path The path of the changed file.
+     */
+    private void reload(final @NotNull Path path) {
+        pendingReloads.remove(path);
+        try {
+            final PrefixMatcher oldPrefixes = commonHandler.getPrefixMatcher();
+            final Set<UUID> changedUuids = commonHandler.getListManager().reloadPrivateListFile(path);
+            if (!changedUuids.isEmpty()) {
+                commonHandler.updatePlayersByUuids(changedUuids, oldPrefixes);
+            }
+        } catch (final RuntimeException e) {
+            LOGGER.error("Could not reload list file {}", path, e);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.forgemod.list;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * A class representing the local cache of a public list with its version, so that it can be updated with patches after a restart.
+ * The cache is stored in the {@link BinaryListFormat}.
+ */
+public class PublicListCache {
+    private static final Logger LOGGER = LogManager.getLogger(PublicListCache.class);
+    private final String namespace;
+    private final String prefix;
+    private final long version;
+    private final Map<UUID, RadarListEntry> playerMap;
+
+    /**
+     * Constructs a {@link PublicListCache}.
+     *
+     * @param namespace The namespace of the list.
+     * @param prefix The prefix of the list.
+     * @param version The version of the list.
+     * @param playerMap The player map of the list.
+     */
+    public PublicListCache(final @NotNull String namespace, final @NotNull String prefix, final long version, final @NotNull Map<UUID, RadarListEntry> playerMap) {
+        this.namespace = namespace;
+        this.prefix = prefix;
+        this.version = version;
+        this.playerMap = playerMap;
+    }
+
+    /**
+     * Gets the version of the cached list.
+     *
+     * @return Returns the version.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Creates a new player map of the cached entries.
+     *
+     * @return Returns the player map.
+     */
+    public @NotNull Map<UUID, RadarListEntry> toPlayerMap() {
+        return new RadarListEntryStore(playerMap);
+    }
+
+    /**
+     * Reads a cache from a file.
+     *
+     * @param file The cache file.
+     * @return Returns an optional with the cache, if it exists and is valid.
+     */
+    public static @NotNull Optional<PublicListCache> read(final @NotNull File file) {
+        if (!file.exists()) {
+            return Optional.empty();
+        }
+
+        try {
+            final BinaryListFormat.ListData data = BinaryListFormat.read(file.toPath());
+            if (data.getVersion() >= 0) {
+                return Optional.of(new PublicListCache(data.getNamespace(), data.getPrefix(), data.getVersion(), data.getPlayerMap()));
+            }
+        } catch (final IOException e) {
+            LOGGER.error("Could not read public list cache", e);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Writes the cache to a file. The file is replaced at once, so that an interrupted write does not leave a broken cache.
+     *
+     * @param file The cache file.
+     */
+    public void write(final @NotNull File file) {
+        final File parent = file.getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs()) {
+            LOGGER.error("Could not create directory: {}", parent);
+        }
+
+        final Path path = file.toPath();
+        final Path temporaryPath = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            Files.write(temporaryPath, BinaryListFormat.encode(namespace, prefix, RadarListVisibility.PUBLIC, version, playerMap.values()));
+            Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING);
+        } catch (final IOException e) {
+            LOGGER.error("Could not write public list cache", e);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.forgemod.list;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.github.communityradargg.forgemod.util.CommonHandler;
+import io.github.communityradargg.forgemod.util.PrefixMatcher;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Refreshes all public lists with one shared scheduler.
+ * Every list has its own interval and each run is delayed by a random jitter, so that clients do not request the lists at the same time.
+ * The downloads itself run on the I/O executor of the {@link CommonHandler}, so a slow source does not delay the refresh of other lists.
+ */
+@SuppressWarnings("UnstableApiUsage")
+public class PublicListRefresher {
+    private static final Logger LOGGER = LogManager.getLogger(PublicListRefresher.class);
+    private static final double JITTER_FACTOR = 0.1;
+    private static final long BASE_RETRY_DELAY_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+            .setNameFormat(CommonHandler.MOD_ID + "-list-refresh-%d")
+            .setDaemon(true)
+            .build());
+    private final Map<String, ScheduledFuture<?>> scheduledRefreshes = new ConcurrentHashMap<>();
+    private final CommonHandler commonHandler;
+
+    /**
+     * Constructs a {@link PublicListRefresher}.
+     *
+     * @param commonHandler The common handler.
+     */
+    public PublicListRefresher(final @NotNull CommonHandler commonHandler) {
+        this.commonHandler = commonHandler;
+    }
+
+    /**
+     * Schedules the periodic refresh of a public list. An already scheduled refresh of a list with the same namespace is replaced.
+     *
+     * @param list The public list to refresh.
+     * @param intervalMinutes The interval in minutes, in which the list is refreshed.
+     */
+    public void schedule(final @NotNull RadarList list, final int intervalMinutes) {
+        if (list.getRadarListVisibility() != RadarListVisibility.PUBLIC) {
+            return;
+        }
+
+        cancel(list.getNamespace());
+        scheduleNext(list, TimeUnit.MINUTES.toMillis(intervalMinutes));
+    }
+
+    /**
+     * Cancels the periodic refresh of a list.
+     *
+     * @param namespace The namespace of the list.
+     */
+    public void cancel(final @NotNull String namespace) {
+        final ScheduledFuture<?> future = scheduledRefreshes.remove(namespace.toLowerCase(Locale.ENGLISH));
+        if (future != null) {
+            future.cancel(false);
+        }
+    }
+
+    /**
+     * Schedules the next refresh of a list with a new random jitter.
+     *
+     * @param list The list to refresh.
+     * @param intervalMillis The interval in milliseconds.
+     */
+    private void scheduleNext(final @NotNull RadarList list, final long intervalMillis) {
+        // failed lists are retried earlier with an exponential backoff, but not later than the regular interval
+        final int failures = list.getConsecutiveFailures();
+        final long delayMillis = failures == 0 ? intervalMillis : Math.min(intervalMillis, BASE_RETRY_DELAY_MILLIS << Math.min(failures - 1, 16));
+        final long jitter = (long) (ThreadLocalRandom.current().nextDouble(-JITTER_FACTOR, JITTER_FACTOR) * delayMillis);
+        final String key = list.getNamespace().toLowerCase(Locale.ENGLISH);
+        final ScheduledFuture<?> future = scheduler.schedule(() -> CompletableFuture.runAsync(() -> refresh(list), commonHandler.getIoExecutor())
+                .whenComplete((result, throwable) -> {
+                    if (throwable != null) {
+                        LOGGER.error("Could not refresh public list '{}'", list.getNamespace(), throwable);
+                    }
+
+                    // only reschedule, if the refresh was not cancelled or replaced in the meantime
+                    if (scheduledRefreshes.containsKey(key) && commonHandler.getListManager().getRadarList(list.getNamespace()).orElse(null) == list) {
+                        scheduleNext(list, intervalMillis);
+                    }
+                }), delayMillis + jitter, TimeUnit.MILLISECONDS);
+        scheduledRefreshes.put(key, future);
+    }
+
+    /**
+     * Refreshes a list and schedules the update of the affected players, if the list changed.
+     *
+     * @param list The list to refresh.
+     */
+    private void refresh(final @NotNull RadarList list) {
+        final String oldPrefix = list.getPrefix();
+        final Set<UUID> oldUuids = list.getPlayerMap().keySet();
+        if (!list.load()) {
+            return;
+        }
+
+        final Set<UUID> newUuids = list.getPlayerMap().keySet();
+        final Set<UUID> changedUuids = new HashSet<>();
+        if (!oldPrefix.equals(list.getPrefix())) {
+            // all players of the list need a new prefix
+            changedUuids.addAll(oldUuids);
+            changedUuids.addAll(newUuids);
+        } else {
+            oldUuids.stream()
+                    .filter(uuid -> !newUuids.contains(uuid))
+                    .forEach(changedUuids::add);
+            newUuids.stream()
+                    .filter(uuid -> !oldUuids.contains(uuid))
+                    .forEach(changedUuids::add);
+        }
+
+        if (!changedUuids.isEmpty()) {
+            commonHandler.updatePlayersByUuids(changedUuids, commonHandler.getPrefixMatcher());
+        }
+        LOGGER.info("Refreshed public list '{}', {} players changed", list.getNamespace(), changedUuids.size());
+    }
+}
@@ -15,45 +15,101 @@
  */
 package io.github.communityradargg.forgemod.list;
 
+import com.google.common.io.BaseEncoding;
+import com.google.common.io.CountingInputStream;
 import com.google.gson.JsonIOException;
 import com.google.gson.JsonSyntaxException;
 import com.google.gson.annotations.SerializedName;
 import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.lang.reflect.Type;
+import java.net.HttpURLConnection;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
 import io.github.communityradargg.forgemod.util.CommonHandler;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * A class representing a radar list.
  */
 public class RadarList {
     private static final Logger LOGGER = LogManager.getLogger(RadarList.class);
+    private static final Type PLAYER_MAP_TYPE = new TypeToken<Map<UUID, RadarListEntry>>() {}.getType();
+    private static final int CONNECT_TIMEOUT_MILLIS = 10_000;
+    private static final int READ_TIMEOUT_MILLIS = 30_000;
+    private static final int MAX_LOAD_ATTEMPTS = 3;
+    private static final long BASE_BACKOFF_MILLIS = 1_000;
+    private static final long MAX_BACKOFF_MILLIS = 30_000;
+    // the delta of a search index is matched entry by entry, so the index is built again before its delta grows beyond this
+    private static final int MAX_SEARCH_INDEX_CHANGES = 1024;
     @SerializedName("VERSION")
     @SuppressWarnings("unused") // needed in future
     private final int version = 1;
     @SerializedName("namespace")
     private final String namespace;
+    // the entries are never changed in place, private lists change a copy while holding the monitor of the list and replace their entries with it
     @SerializedName("playerMap")
-    private final Map<UUID, RadarListEntry> playerMap;
+    private volatile Map<UUID, RadarListEntry> playerMap;
     @SerializedName("visibility")
     private final RadarListVisibility visibility;
     @SerializedName("prefix")
     private String prefix;
     private transient String url;
     private transient CommonHandler commonHandler;
+    private transient String entityTag;
+    private transient String lastModified;
+    private transient String validatorUrl;
+    private transient List<String> mirrorUrls = Collections.emptyList();
+    private transient volatile LocalDateTime lastFailureTime;
+    private transient volatile String lastFailureMessage;
+    private transient volatile int consecutiveFailures;
+    private transient Map<UUID, RadarListEntry> pendingAdditions;
+    private transient Set<UUID> pendingRemovals;
+    private transient String pendingPrefix;
+    private transient String manifestUrl;
+    private transient boolean manifestAvailable = true;
+    private transient long syncVersion = -1;
+    private transient File cacheFile;
+    private transient volatile ListSearchIndex searchIndex;
+    private transient long searchIndexVersion;
+    private transient CompletableFuture<ListSearchIndex> searchIndexBuild;
+    private transient volatile long entriesVersion;
+    private transient ListPages pages;
+    private transient volatile boolean entriesPending;
+    private transient boolean lazyLoadStarted;
 
     /**
-     * Constructs a {@link RadarList}.
+     * Constructs a {@link RadarList}. A public list is not loaded until {@link #load()} is called.
      *
      * @param commonHandler The common handler.
      * @param namespace The namespace for the list.
@@ -66,9 +122,8 @@ public class RadarList {
         this.namespace = namespace;
         this.prefix = prefix;
         this.visibility = visibility;
-        this.playerMap = new HashMap<>();
+        this.playerMap = new RadarListEntryStore();
         this.url = url;
-        load();
     }
 
     /**
@@ -78,7 +133,7 @@ public class RadarList {
      * @return Returns, whether the given uuid is in the list.
      */
     public boolean isInList(final @NotNull UUID uuid) {
-        return playerMap.get(uuid) != null;
+        return getPlayerMap().containsKey(uuid);
     }
 
     /**
@@ -88,7 +143,7 @@ public class RadarList {
      * @return Returns an optional with the found entry.
      */
     public @NotNull Optional<RadarListEntry> getRadarListEntry(final @NotNull UUID uuid) {
-        return Optional.ofNullable(playerMap.get(uuid));
+        return Optional.ofNullable(getPlayerMap().get(uuid));
     }
 
     /**
@@ -116,6 +171,25 @@ public class RadarList {
      */
     public void setPrefix(final @NotNull String prefix) {
         this.prefix = prefix;
+        synchronized (this) {
+            pendingPrefix = prefix;
+        }
+        if (commonHandler != null && commonHandler.getListManager() != null) {
+            commonHandler.getListManager().markPrefixesChanged();
+        }
+    }
+
+    /**
+     * Applies the prefix of the list written by another instance. Unlike {@link #setPrefix(String)} the prefix is not treated as a local change,
+     * so that a later prefix change of the other instance still wins over it, when the lists are merged.
+     *
+     * @param prefix The prefix of the other instance.
+     */
+    void applyExternalPrefix(final @NotNull String prefix) {
+        this.prefix = prefix;
+        if (commonHandler != null && commonHandler.getListManager() != null) {
+            commonHandler.getListManager().markPrefixesChanged();
+        }
     }
 
     /**
@@ -146,14 +220,140 @@ public class RadarList {
     }
 
     /**
-     * Gets the player map of the list.
+     * Gets the player map of the list. The entries of a lazily loaded list are loaded in the background on the first access, the list is empty until then.
      *
      * @return Returns the player map.
      */
     public @NotNull Map<UUID, RadarListEntry> getPlayerMap() {
+        if (entriesPending) {
+            scheduleLazyLoad();
+        }
         return playerMap;
     }
 
+    /**
+     * Gets the player map of the list and loads the entries of a lazily loaded list on the calling thread, if they are not loaded yet.
+     * Changes to the list have to use this method, so that the entries from the file are not lost.
+     *
+     * @return Returns the player map with all entries.
+     */
+    @NotNull Map<UUID, RadarListEntry> getLoadedPlayerMap() {
+        if (entriesPending) {
+            completeLazyLoad(readLazyEntries());
+        }
+        return playerMap;
+    }
+
+    /**
+     * Gets the entries of the list as they are now, so that they can be read on another thread.
+     * All lists replace their entries at once instead of changing them, so the current entries are returned without a copy.
+     *
+     * @return Returns the entries, which are not changed anymore.
+     */
+    public @NotNull Map<UUID, RadarListEntry> getEntriesSnapshot() {
+        return getPlayerMap();
+    }
+
+    /**
+     * Checks, whether the entries of the list are loaded. The entries of a lazily loaded list are loaded on the first access.
+     *
+     * @return Returns, whether the entries are loaded.
+     */
+    boolean isEntriesLoaded() {
+        return !entriesPending;
+    }
+
+    /**
+     * Replaces the entries of the list at once.
+     *
+     * @param playerMap The new entries.
+     */
+    void replaceEntries(final @NotNull Map<UUID, RadarListEntry> playerMap) {
+        synchronized (this) {
+            this.playerMap = playerMap;
+            // a pending lazy load would overwrite the new entries
+            entriesPending = false;
+        }
+        markChanged();
+    }
+
+    /**
+     * Marks the entries of a private list to be loaded from its file on the first access, so that only the header of the list has to be loaded up front.
+     */
+    void loadEntriesLazily() {
+        if (visibility == RadarListVisibility.PRIVATE) {
+            playerMap = new RadarListEntryStore();
+            entriesPending = true;
+        }
+    }
+
+    /**
+     * Starts loading the entries of a lazily loaded list on the I/O executor, if the load was not started yet.
+     */
+    private synchronized void scheduleLazyLoad() {
+        if (!entriesPending || lazyLoadStarted) {
+            return;
+        }
+
+        lazyLoadStarted = true;
+        CompletableFuture.runAsync(() -> completeLazyLoad(readLazyEntries()), commonHandler.getIoExecutor())
+                .exceptionally(throwable -> {
+                    LOGGER.error("Could not load the entries of list '{}'", namespace, throwable);
+                    return null;
+                });
+    }
+
+    /**
+     * Replaces the empty entries of a lazily loaded list with the loaded ones, if they were not loaded in the meantime.
+     * The loaded players get decorated afterwards.
+     *
+     * @param loadedPlayerMap The loaded entries.
+     */
+    private void completeLazyLoad(final @NotNull Map<UUID, RadarListEntry> loadedPlayerMap) {
+        synchronized (this) {
+            if (!entriesPending) {
+                return;
+            }
+            playerMap = loadedPlayerMap;
+            entriesPending = false;
+        }
+
+        markChanged();
+        commonHandler.getEntryExpiryTracker().trackList(this);
+        if (!loadedPlayerMap.isEmpty()) {
+            commonHandler.updatePlayersByUuids(loadedPlayerMap.keySet(), commonHandler.getPrefixMatcher());
+        }
+    }
+
+    /**
+     * Reads the entries of a lazily loaded private list from its file.
+     *
+     * @return Returns the read entries, which are empty if the file could not be read.
+     */
+    private @NotNull Map<UUID, RadarListEntry> readLazyEntries() {
+        final long startTime = System.nanoTime();
+        Map<UUID, RadarListEntry> loadedPlayerMap = null;
+        try (final JsonReader reader = new JsonReader(new BufferedReader(new InputStreamReader(new FileInputStream(url), StandardCharsets.UTF_8)))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (reader.nextName().equals("playerMap")) {
+                    loadedPlayerMap = ListManager.GSON.fromJson(reader, PLAYER_MAP_TYPE);
+                } else {
+                    reader.skipValue();
+                }
+            }
+        } catch (final IOException | IllegalStateException | JsonIOException | JsonSyntaxException e) {
+            LOGGER.error("Could not load the entries of list '{}'", namespace, e);
+        }
+
+        if (loadedPlayerMap == null) {
+            loadedPlayerMap = new RadarListEntryStore();
+        }
+        LOGGER.info("Loaded {} entries of list '{}' lazily in {} ms", loadedPlayerMap.size(), namespace,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+        return loadedPlayerMap;
+    }
+
     /**
      * Adds a radar list entry to the list if it is private.
      *
@@ -161,18 +361,284 @@ public class RadarList {
      */
     public void addRadarListEntry(final @NotNull RadarListEntry radarListEntry) {
         if (visibility == RadarListVisibility.PRIVATE) {
-            playerMap.put(radarListEntry.uuid(), radarListEntry);
+            getLoadedPlayerMap();
+            synchronized (this) {
+                final RadarListEntryStore newPlayerMap = copyPlayerMap();
+                newPlayerMap.put(radarListEntry.uuid(), radarListEntry);
+                playerMap = newPlayerMap;
+                updateSearchIndex(Collections.singletonList(radarListEntry), Collections.emptyList());
+                getPendingRemovals().remove(radarListEntry.uuid());
+                getPendingAdditions().put(radarListEntry.uuid(), radarListEntry);
+            }
+            markListsChanged();
             saveList();
+            commonHandler.getEntryExpiryTracker().trackEntry(this, radarListEntry);
         }
     }
 
     /**
-     * Loads a radar list entry.
+     * Adds multiple radar list entries to the list if it is private and saves it once on the I/O executor.
      *
-     * @param radarListEntry The entry to load.
+     * @param radarListEntries The entries to add.
      */
-    private void loadRadarListEntry(final @NotNull RadarListEntry radarListEntry) {
-        playerMap.put(radarListEntry.uuid(), radarListEntry);
+    public void addRadarListEntries(final @NotNull Collection<RadarListEntry> radarListEntries) {
+        if (visibility != RadarListVisibility.PRIVATE || radarListEntries.isEmpty()) {
+            return;
+        }
+
+        getLoadedPlayerMap();
+        synchronized (this) {
+            final RadarListEntryStore newPlayerMap = copyPlayerMap();
+            for (final RadarListEntry radarListEntry : radarListEntries) {
+                newPlayerMap.put(radarListEntry.uuid(), radarListEntry);
+                getPendingRemovals().remove(radarListEntry.uuid());
+                getPendingAdditions().put(radarListEntry.uuid(), radarListEntry);
+            }
+            playerMap = newPlayerMap;
+            updateSearchIndex(radarListEntries, Collections.emptyList());
+        }
+        markListsChanged();
+        saveListAsync();
+        radarListEntries.forEach(radarListEntry -> commonHandler.getEntryExpiryTracker().trackEntry(this, radarListEntry));
+    }
+
+    /**
+     * Removes a radar list entry from the list and saves it.
+     *
+     * @param uuid The uuid of the entry to remove.
+     */
+    public void removeRadarListEntry(final @NotNull UUID uuid) {
+        getLoadedPlayerMap();
+        synchronized (this) {
+            if (!playerMap.containsKey(uuid)) {
+                return;
+            }
+
+            final RadarListEntryStore newPlayerMap = copyPlayerMap();
+            newPlayerMap.remove(uuid);
+            playerMap = newPlayerMap;
+            updateSearchIndex(Collections.emptyList(), Collections.singletonList(uuid));
+            getPendingAdditions().remove(uuid);
+            getPendingRemovals().add(uuid);
+        }
+        markListsChanged();
+        saveList();
+    }
+
+    /**
+     * Removes multiple radar list entries from the list and saves it once on the I/O executor.
+     *
+     * @param uuids The uuids of the entries to remove.
+     */
+    public void removeRadarListEntries(final @NotNull Collection<UUID> uuids) {
+        getLoadedPlayerMap();
+        final List<UUID> removedUuids = new ArrayList<>();
+        synchronized (this) {
+            final RadarListEntryStore newPlayerMap = copyPlayerMap();
+            for (final UUID uuid : uuids) {
+                if (newPlayerMap.remove(uuid) != null) {
+                    getPendingAdditions().remove(uuid);
+                    getPendingRemovals().add(uuid);
+                    removedUuids.add(uuid);
+                }
+            }
+
+            if (!removedUuids.isEmpty()) {
+                playerMap = newPlayerMap;
+                updateSearchIndex(Collections.emptyList(), removedUuids);
+            }
+        }
+
+        if (!removedUuids.isEmpty()) {
+            markListsChanged();
+            saveListAsync();
+        }
+    }
+
+    /**
+     * Copies the entries of the list, so that the copy can be changed and replace the entries, which other threads may still read.
+     *
+     * @return Returns the copy.
+     */
+    private @NotNull RadarListEntryStore copyPlayerMap() {
+        return playerMap instanceof RadarListEntryStore ? ((RadarListEntryStore) playerMap).copy() : new RadarListEntryStore(playerMap);
+    }
+
+    /**
+     * Gets the player names of the list split into chat pages. The pages are computed again, after any list changed.
+     *
+     * @return Returns the pages.
+     */
+    public synchronized @NotNull ListPages getPages() {
+        final long currentListVersion = commonHandler.getListManager().getListVersion();
+        if (pages == null || !pages.isCurrent(currentListVersion)) {
+            pages = new ListPages(currentListVersion, getPlayerMap().values());
+        }
+        return pages;
+    }
+
+    /**
+     * Gets the search index of the list. The first index is built on the I/O executor on the first search.
+     * Single changes are taken over into the index right away. After the entries were replaced, the last completed index is used, while a new one is built.
+     *
+     * @return Returns a future with the search index.
+     */
+    synchronized @NotNull CompletableFuture<ListSearchIndex> getSearchIndex() {
+        if (searchIndex != null && searchIndexVersion == entriesVersion) {
+            return CompletableFuture.completedFuture(searchIndex);
+        }
+
+        final CompletableFuture<ListSearchIndex> build = scheduleSearchIndexBuild();
+        return searchIndex == null ? build : CompletableFuture.completedFuture(searchIndex);
+    }
+
+    /**
+     * Starts building the search index for the current entries on the I/O executor, unless a build is running already.
+     * A build, which finished for outdated entries, starts the next one.
+     *
+     * @return Returns a future with the built index.
+     */
+    private synchronized @NotNull CompletableFuture<ListSearchIndex> scheduleSearchIndexBuild() {
+        if (searchIndexBuild != null) {
+            return searchIndexBuild;
+        }
+
+        // the version is read before the entries, so that an index of newer entries is rather built again than kept outdated
+        final long version = entriesVersion;
+        searchIndexBuild = CompletableFuture.supplyAsync(() -> new ListSearchIndex(getEntriesSnapshot()), commonHandler.getIoExecutor())
+                .whenComplete((index, throwable) -> {
+                    synchronized (this) {
+                        searchIndexBuild = null;
+                        if (throwable != null) {
+                            LOGGER.error("Could not build the search index of list '{}'", namespace, throwable);
+                            return;
+                        }
+
+                        // a current index with a delta is kept instead of a build of outdated entries
+                        if (searchIndex == null || searchIndexVersion != entriesVersion || version == entriesVersion) {
+                            searchIndex = index;
+                            searchIndexVersion = version;
+                        }
+                        if (searchIndexVersion != entriesVersion || searchIndex.getChangeCount() > MAX_SEARCH_INDEX_CHANGES / 2) {
+                            scheduleSearchIndexBuild();
+                        }
+                    }
+                });
+        return searchIndexBuild;
+    }
+
+    /**
+     * Takes single changed entries over into the search index, if the index is current. The index is built again in the background,
+     * when its delta grew large, and is only outdated until the build finished, if the changes do not fit into its delta anymore.
+     * Has to be called while holding the monitor of the list right after the entries were replaced.
+     *
+     * @param changedEntries The added or replaced entries.
+     * @param removedUuids The uuids of the removed entries.
+     */
+    private void updateSearchIndex(final @NotNull Collection<RadarListEntry> changedEntries, final @NotNull Collection<UUID> removedUuids) {
+        final boolean searchIndexCurrent = searchIndex != null && searchIndexVersion == entriesVersion;
+        entriesVersion++;
+        // an index is only kept up to date for lists, which were searched already
+        if (searchIndex == null) {
+            return;
+        }
+
+        if (searchIndexCurrent && searchIndex.getChangeCount() + changedEntries.size() + removedUuids.size() <= MAX_SEARCH_INDEX_CHANGES) {
+            searchIndex = searchIndex.withChanges(changedEntries, removedUuids);
+            searchIndexVersion = entriesVersion;
+        }
+        if (searchIndexVersion != entriesVersion || searchIndex.getChangeCount() > MAX_SEARCH_INDEX_CHANGES / 2) {
+            scheduleSearchIndexBuild();
+        }
+    }
+
+    /**
+     * Merges the local changes, which are not saved yet, into the entries of the same list written by another instance.
+     * The merged entries and prefix replace the own ones and the local changes are cleared afterwards.
+     *
+     * @param otherList The list as it was written by another instance.
+     * @return Returns the uuids of the players, whose membership changed by the merge.
+     */
+    synchronized @NotNull Set<UUID> mergePendingChanges(final @NotNull RadarList otherList) {
+        final Map<UUID, RadarListEntry> mergedPlayerMap = new RadarListEntryStore(otherList.getPlayerMap());
+        getPendingRemovals().forEach(mergedPlayerMap::remove);
+        mergedPlayerMap.putAll(getPendingAdditions());
+
+        final Map<UUID, RadarListEntry> currentPlayerMap = getPlayerMap();
+        final Set<UUID> changedUuids = new HashSet<>();
+        if (pendingPrefix == null && !prefix.equals(otherList.getPrefix())) {
+            // the prefix was changed by the other instance
+            prefix = otherList.getPrefix();
+            changedUuids.addAll(currentPlayerMap.keySet());
+            changedUuids.addAll(mergedPlayerMap.keySet());
+        } else {
+            currentPlayerMap.keySet().stream()
+                    .filter(uuid -> !mergedPlayerMap.containsKey(uuid))
+                    .forEach(changedUuids::add);
+            mergedPlayerMap.keySet().stream()
+                    .filter(uuid -> !currentPlayerMap.containsKey(uuid))
+                    .forEach(changedUuids::add);
+        }
+
+        replaceEntries(mergedPlayerMap);
+        clearPendingChanges();
+        return changedUuids;
+    }
+
+    /**
+     * Clears the local changes after they were saved.
+     */
+    synchronized void clearPendingChanges() {
+        getPendingAdditions().clear();
+        getPendingRemovals().clear();
+        pendingPrefix = null;
+    }
+
+    /**
+     * Gets the pending additions, which are created on the first use, because lists created by {@link com.google.gson.Gson} skip field initializers.
+     *
+     * @return Returns the pending additions.
+     */
+    private @NotNull Map<UUID, RadarListEntry> getPendingAdditions() {
+        if (pendingAdditions == null) {
+            pendingAdditions = new HashMap<>();
+        }
+        return pendingAdditions;
+    }
+
+    /**
+     * Gets the pending removals, which are created on the first use, because lists created by {@link com.google.gson.Gson} skip field initializers.
+     *
+     * @return Returns the pending removals.
+     */
+    private @NotNull Set<UUID> getPendingRemovals() {
+        if (pendingRemovals == null) {
+            pendingRemovals = new HashSet<>();
+        }
+        return pendingRemovals;
+    }
+
+    /**
+     * Marks the lists as changed after the entries of this list were replaced as a whole. A search index of the list is built again.
+     */
+    private void markChanged() {
+        synchronized (this) {
+            entriesVersion++;
+            // an index is only kept up to date for lists, which were searched already
+            if (searchIndex != null) {
+                scheduleSearchIndexBuild();
+            }
+        }
+        markListsChanged();
+    }
+
+    /**
+     * Marks the lists as changed in the list manager, so that decorations get updated.
+     */
+    private void markListsChanged() {
+        if (commonHandler != null && commonHandler.getListManager() != null) {
+            commonHandler.getListManager().markListsChanged();
+        }
     }
 
     /**
@@ -184,16 +650,360 @@ public class RadarList {
         }
     }
 
+    /**
+     * Saves a list to the disk on the I/O executor if it is private.
+     */
+    public void saveListAsync() {
+        if (visibility == RadarListVisibility.PRIVATE) {
+            CompletableFuture.runAsync(() -> commonHandler.getListManager().saveRadarList(this), commonHandler.getIoExecutor())
+                    .exceptionally(throwable -> {
+                        LOGGER.error("Could not save list '{}'", namespace, throwable);
+                        return null;
+                    });
+        }
+    }
+
     /**
      * Loads a public list.
+     * <br><br>
+     * If the list has a manifest, the list is updated with the patches since the known version, which is also restored from the local cache after a restart.
+     * A full download is done, if there is no manifest, no known version or the chain of patches is broken.
+     *
+     * @return Returns, whether the entries of the list changed.
+     */
+    private boolean loadPublicList() {
+        boolean changed = false;
+        if (syncVersion < 0 && cacheFile != null) {
+            changed = loadCache();
+        }
+
+        if (manifestUrl != null && manifestAvailable) {
+            final ListManifest manifest = fetchManifest();
+            if (manifest != null) {
+                if (manifest.getVersion() == syncVersion) {
+                    return changed;
+                }
+
+                if (syncVersion >= 0 && applyPatches(manifest)) {
+                    return true;
+                }
+
+                // no known version or the chain is broken, the full list has to be downloaded even if it was not modified since the last full download
+                entityTag = null;
+                lastModified = null;
+                if (loadFullPublicList(manifest)) {
+                    syncVersion = manifest.getVersion();
+                    writeCache();
+                    return true;
+                }
+                return changed;
+            }
+        }
+        return loadFullPublicList(null) || changed;
+    }
+
+    /**
+     * Loads the full public list from its url or one of its mirrors.
+     * The sources are tried in order, if all of them fail, the next attempt is made after an exponential backoff with jitter.
+     * The failure of the last attempt is remembered, until the list is loaded successfully.
+     *
+     * @param manifest The manifest with the published hash and entry count of the list or {@code null}, if there is none.
+     * @return Returns, whether the entries of the list changed.
+     */
+    private boolean loadFullPublicList(final @Nullable ListManifest manifest) {
+        final List<String> sources = new ArrayList<>();
+        sources.add(url);
+        sources.addAll(mirrorUrls);
+
+        Exception lastException = null;
+        for (int attempt = 1; attempt <= MAX_LOAD_ATTEMPTS; attempt++) {
+            if (attempt > 1) {
+                try {
+                    Thread.sleep(getBackoffMillis(attempt - 1));
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+
+            for (final String source : sources) {
+                try {
+                    final boolean changed = loadFullPublicList(source, manifest);
+                    lastFailureTime = null;
+                    lastFailureMessage = null;
+                    consecutiveFailures = 0;
+                    return changed;
+                } catch (final IOException | IllegalStateException | JsonIOException | JsonSyntaxException e) {
+                    LOGGER.warn("Could not load public list '{}' from {} (attempt {}/{}): {}", namespace, source, attempt, MAX_LOAD_ATTEMPTS, e.toString());
+                    lastException = e;
+                }
+            }
+        }
+
+        lastFailureTime = LocalDateTime.now();
+        lastFailureMessage = lastException == null ? "Interrupted" : lastException.getClass().getSimpleName() + ": " + lastException.getMessage();
+        consecutiveFailures++;
+        LOGGER.error("Could not load public list '{}'", namespace, lastException);
+        return false;
+    }
+
+    /**
+     * Gets the backoff before an attempt with a random jitter between the half and the full backoff.
+     *
+     * @param failedAttempts The number of failed attempts.
+     * @return Returns the backoff in milliseconds.
+     */
+    private static long getBackoffMillis(final int failedAttempts) {
+        final long backoff = Math.min(MAX_BACKOFF_MILLIS, BASE_BACKOFF_MILLIS << Math.min(failedAttempts - 1, 16));
+        return backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+    }
+
+    /**
+     * Loads the full public list. A conditional request is used, so that the list is only downloaded and parsed again if it has changed.
+     * The response is requested compressed and is decompressed while it is streamed into the JSON parser.
+     * The entries are parsed into a new map, which is verified against the published hash and entry count of the manifest.
+     * Only a complete and valid map replaces the old one with a single volatile write, so readers never see a partially loaded list and never block.
+     *
+     * @param source The url to load the list from.
+     * @param manifest The manifest with the published hash and entry count of the list or {@code null}, if there is none.
+     * @return Returns, whether the entries of the list changed.
+     * @throws IOException If the list could not be downloaded or is invalid.
+     */
+    private boolean loadFullPublicList(final @NotNull String source, final @Nullable ListManifest manifest) throws IOException {
+        final long startTime = System.nanoTime();
+        final HttpURLConnection connection = openConnection(source);
+        // validators of another source can not be used, the mirrors may have other entity tags
+        if (source.equals(validatorUrl)) {
+            if (entityTag != null) {
+                connection.setRequestProperty("If-None-Match", entityTag);
+            }
+            if (lastModified != null) {
+                connection.setRequestProperty("If-Modified-Since", lastModified);
+            }
+        }
+
+        if (connection.getResponseCode() == HttpURLConnection.HTTP_NOT_MODIFIED) {
+            LOGGER.info("Public list '{}' is not modified", namespace);
+            return false;
+        }
+
+        final Map<UUID, RadarListEntry> newPlayerMap = new RadarListEntryStore();
+        final CountingInputStream transferredStream = new CountingInputStream(connection.getInputStream());
+        final CountingInputStream decodedStream = new CountingInputStream(decodeContent(transferredStream, connection.getContentEncoding()));
+        final DigestInputStream digestStream = new DigestInputStream(decodedStream, createSha256Digest());
+        int entryCount = 0;
+        try (final JsonReader reader = new JsonReader(new BufferedReader(new InputStreamReader(digestStream, StandardCharsets.UTF_8)))) {
+            reader.beginArray();
+            while (reader.hasNext()) {
+                final RadarListEntry entry = ListManager.GSON.fromJson(reader, RadarListEntry.class);
+                if (entry == null || entry.uuid() == null) {
+                    throw new IOException("Invalid entry at index " + entryCount);
+                }
+                newPlayerMap.put(entry.uuid(), entry);
+                entryCount++;
+            }
+            reader.endArray();
+            // reading to the end of the document ensures, that the hash covers the whole body
+            if (reader.peek() != JsonToken.END_DOCUMENT) {
+                throw new IOException("Unexpected content after the list");
+            }
+        }
+
+        if (manifest != null) {
+            verifyIntegrity(manifest, entryCount, digestStream.getMessageDigest().digest());
+        }
+
+        playerMap = newPlayerMap;
+        entityTag = connection.getHeaderField("ETag");
+        lastModified = connection.getHeaderField("Last-Modified");
+        validatorUrl = source;
+        markChanged();
+        LOGGER.info("Loaded public list '{}' with {} entries: {} bytes transferred ({} bytes decoded, encoding: {}) in {} ms",
+                namespace, newPlayerMap.size(), transferredStream.getCount(), decodedStream.getCount(), connection.getContentEncoding(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+        return true;
+    }
+
+    /**
+     * Verifies a downloaded list against the published hash and entry count of the manifest, if they are present.
+     *
+     * @param manifest The manifest of the list.
+     * @param entryCount The number of parsed entries.
+     * @param sha256 The SHA-256 hash of the decoded body.
+     * @throws IOException If the list does not match the manifest.
+     */
+    private static void verifyIntegrity(final @NotNull ListManifest manifest, final int entryCount, final byte[] sha256) throws IOException {
+        if (manifest.getEntryCount() != null && manifest.getEntryCount() != entryCount) {
+            throw new IOException("Entry count mismatch: expected " + manifest.getEntryCount() + ", got " + entryCount);
+        }
+
+        final String hash = BaseEncoding.base16().lowerCase().encode(sha256);
+        if (manifest.getSha256() != null && !manifest.getSha256().equalsIgnoreCase(hash)) {
+            throw new IOException("Hash mismatch: expected " + manifest.getSha256() + ", got " + hash);
+        }
+    }
+
+    /**
+     * Creates a SHA-256 message digest.
+     *
+     * @return Returns the message digest.
+     */
+    private static @NotNull MessageDigest createSha256Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            // every Java platform has to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Fetches the manifest of the list. If the server has no manifest, no further attempts are made for this list.
+     *
+     * @return Returns the manifest or {@code null}, if it could not be fetched.
+     */
+    private @Nullable ListManifest fetchManifest() {
+        try {
+            final HttpURLConnection connection = openConnection(manifestUrl);
+            if (connection.getResponseCode() == HttpURLConnection.HTTP_NOT_FOUND) {
+                LOGGER.info("Public list '{}' has no manifest, using full downloads", namespace);
+                manifestAvailable = false;
+                return null;
+            }
+
+            try (final BufferedReader reader = openReader(connection)) {
+                final ListManifest manifest = ListManager.GSON.fromJson(reader, ListManifest.class);
+                if (manifest != null && manifest.validateManifest()) {
+                    return manifest;
+                }
+            }
+            LOGGER.warn("Invalid manifest for public list '{}'", namespace);
+        } catch (final IOException | JsonIOException | JsonSyntaxException e) {
+            LOGGER.warn("Could not fetch manifest for public list '{}'", namespace, e);
+        }
+        return null;
+    }
+
+    /**
+     * Applies the patches from the known version to the version of the manifest.
+     * The patches are applied to a copy of the entries, which only replaces the current entries if all patches could be applied.
+     *
+     * @param manifest The manifest of the list.
+     * @return Returns, whether the patches were applied.
      */
-    private void loadPublicList() {
-        try (final BufferedReader reader = new BufferedReader(new InputStreamReader(new URL(this.url).openStream()))) {
-            final List<RadarListEntry> players = ListManager.GSON
-                    .fromJson(reader, new TypeToken<List<RadarListEntry>>() {}.getType());
-            players.forEach(this::loadRadarListEntry);
+    private boolean applyPatches(final @NotNull ListManifest manifest) {
+        final List<ListManifest.PatchReference> chain = manifest.getPatchChain(syncVersion);
+        if (chain == null) {
+            LOGGER.info("Patch chain of public list '{}' from version {} to {} is broken", namespace, syncVersion, manifest.getVersion());
+            return false;
+        }
+
+        final long startTime = System.nanoTime();
+        final Map<UUID, RadarListEntry> newPlayerMap = new RadarListEntryStore(playerMap);
+        try {
+            for (final ListManifest.PatchReference reference : chain) {
+                final HttpURLConnection connection = openConnection(new URL(new URL(manifestUrl), reference.getUrl()).toString());
+                try (final BufferedReader reader = openReader(connection)) {
+                    final ListPatch patch = ListManager.GSON.fromJson(reader, ListPatch.class);
+                    if (patch == null || !patch.validatePatch(reference)) {
+                        LOGGER.warn("Invalid patch from version {} to {} for public list '{}'", reference.getFrom(), reference.getTo(), namespace);
+                        return false;
+                    }
+                    patch.applyTo(newPlayerMap);
+                }
+            }
         } catch (final IOException | JsonIOException | JsonSyntaxException e) {
-            LOGGER.error("Could not load public list", e);
+            LOGGER.warn("Could not apply patches to public list '{}'", namespace, e);
+            return false;
+        }
+
+        if (manifest.getEntryCount() != null && manifest.getEntryCount() != newPlayerMap.size()) {
+            LOGGER.warn("Patched public list '{}' has {} entries instead of {}", namespace, newPlayerMap.size(), manifest.getEntryCount());
+            return false;
+        }
+
+        playerMap = newPlayerMap;
+        LOGGER.info("Updated public list '{}' from version {} to {} with {} patches in {} ms", namespace, syncVersion, manifest.getVersion(), chain.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+        syncVersion = manifest.getVersion();
+        writeCache();
+        markChanged();
+        return true;
+    }
+
+    /**
+     * Loads the entries and the version of the list from the local cache.
+     *
+     * @return Returns, whether the entries were loaded from the cache.
+     */
+    private boolean loadCache() {
+        final Optional<PublicListCache> cacheOptional = PublicListCache.read(cacheFile);
+        if (!cacheOptional.isPresent()) {
+            return false;
+        }
+
+        playerMap = cacheOptional.get().toPlayerMap();
+        syncVersion = cacheOptional.get().getVersion();
+        markChanged();
+        return true;
+    }
+
+    /**
+     * Writes the entries and the version of the list to the local cache.
+     */
+    private void writeCache() {
+        if (cacheFile != null && syncVersion >= 0) {
+            new PublicListCache(namespace, prefix, syncVersion, playerMap).write(cacheFile);
+        }
+    }
+
+    /**
+     * Opens a connection with timeouts, which accepts compressed responses.
+     *
+     * @param url The url to connect to.
+     * @return Returns the connection.
+     * @throws IOException If the connection could not be opened.
+     */
+    private static @NotNull HttpURLConnection openConnection(final @NotNull String url) throws IOException {
+        final HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+        connection.setConnectTimeout(CONNECT_TIMEOUT_MILLIS);
+        connection.setReadTimeout(READ_TIMEOUT_MILLIS);
+        connection.setRequestProperty("Accept-Encoding", "gzip, deflate");
+        return connection;
+    }
+
+    /**
+     * Opens a reader for the decoded response of a connection.
+     *
+     * @param connection The connection.
+     * @return Returns the reader.
+     * @throws IOException If the response could not be read.
+     */
+    private static @NotNull BufferedReader openReader(final @NotNull HttpURLConnection connection) throws IOException {
+        return new BufferedReader(new InputStreamReader(decodeContent(connection.getInputStream(), connection.getContentEncoding()), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Wraps a response stream into a stream decompressing the content according to the given content encoding.
+     *
+     * @param inputStream The raw response stream.
+     * @param contentEncoding The content encoding of the response.
+     * @return Returns the decoded stream.
+     * @throws IOException If the gzip header could not be read.
+     */
+    private static @NotNull InputStream decodeContent(final @NotNull InputStream inputStream, final @Nullable String contentEncoding) throws IOException {
+        if (contentEncoding == null) {
+            return inputStream;
+        }
+
+        switch (contentEncoding.trim().toLowerCase(Locale.ENGLISH)) {
+            case "gzip":
+            case "x-gzip":
+                return new GZIPInputStream(inputStream);
+            case "deflate":
+                return new InflaterInputStream(inputStream);
+            default:
+                return inputStream;
         }
     }
 
@@ -208,11 +1018,68 @@ public class RadarList {
 
     /**
      * Loads a list if it is public.
+     *
+     * @return Returns, whether the entries of the list changed.
      */
-    public void load() {
+    public boolean load() {
         if (visibility == RadarListVisibility.PUBLIC) {
-            loadPublicList();
+            return loadPublicList();
         }
+        return false;
+    }
+
+    /**
+     * Sets the url of the manifest, which announces the version and the patches of a public list.
+     *
+     * @param manifestUrl The manifest url to set or {@code null}, if the list has no manifest.
+     */
+    public void setManifestUrl(final @Nullable String manifestUrl) {
+        this.manifestUrl = manifestUrl;
+    }
+
+    /**
+     * Sets the mirror urls, which are tried in order, if the list could not be loaded from its url.
+     *
+     * @param mirrorUrls The mirror urls to set.
+     */
+    public void setMirrorUrls(final @NotNull List<String> mirrorUrls) {
+        this.mirrorUrls = Collections.unmodifiableList(new ArrayList<>(mirrorUrls));
+    }
+
+    /**
+     * Gets the time of the last failed load of a public list.
+     *
+     * @return Returns an optional with the time of the last failure, which is empty if the last load succeeded.
+     */
+    public @NotNull Optional<LocalDateTime> getLastFailureTime() {
+        return Optional.ofNullable(lastFailureTime);
+    }
+
+    /**
+     * Gets the message of the last failed load of a public list.
+     *
+     * @return Returns an optional with the message of the last failure, which is empty if the last load succeeded.
+     */
+    public @NotNull Optional<String> getLastFailureMessage() {
+        return Optional.ofNullable(lastFailureMessage);
+    }
+
+    /**
+     * Gets the number of consecutive failed loads of a public list.
+     *
+     * @return Returns the number of consecutive failures.
+     */
+    public int getConsecutiveFailures() {
+        return consecutiveFailures;
+    }
+
+    /**
+     * Sets the file of the local cache of a public list.
+     *
+     * @param cacheFile The cache file to set.
+     */
+    public void setCacheFile(final @NotNull File cacheFile) {
+        this.cacheFile = cacheFile;
     }
 
     /**
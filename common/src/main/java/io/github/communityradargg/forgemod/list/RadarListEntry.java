@@ -17,6 +17,7 @@ package io.github.communityradargg.forgemod.list;
 
 import com.google.gson.annotations.SerializedName;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -60,6 +61,26 @@ public class RadarListEntry {
         this.expiryDays = -1;
     }
 
+    /**
+     * Constructs a {@link RadarListEntry} with all its values.
+     *
+     * @param uuid The player uuid of the entry.
+     * @param name The player name of the entry
+     * @param cause The cause of the entry.
+     * @param entryCreationDate The date when the entry was created the first time.
+     * @param entryUpdateDate The date when the entry was updated the last time.
+     * @param expiryDays The days after which the entry expires or {@code -1}, if it does not expire.
+     */
+    public RadarListEntry(final @NotNull UUID uuid, final @NotNull String name, final @NotNull String cause, final @Nullable LocalDateTime entryCreationDate,
+                          final @Nullable LocalDateTime entryUpdateDate, final int expiryDays) {
+        this.uuid = uuid;
+        this.name = name;
+        this.cause = cause;
+        this.entryCreationDate = entryCreationDate;
+        this.entryUpdateDate = entryUpdateDate;
+        this.expiryDays = expiryDays;
+    }
+
     /**
      * Gets the player uuid of the entry.
      *
@@ -0,0 +1,548 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.forgemod.list;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * A map of radar list entries, which stores the entries column by column instead of as objects.
+ * The uuids and dates are kept in primitive arrays, the causes are deduplicated in a pool and {@link RadarListEntry} objects are only created on access.
+ * Like a {@link HashMap}, the store is not thread-safe.
+ */
+public class RadarListEntryStore extends AbstractMap<UUID, RadarListEntry> {
+    private static final long NO_TIME = Long.MIN_VALUE;
+    private static final int NO_CAUSE = -1;
+    private static final int MINIMUM_CAPACITY = 8;
+    private long[] uuidMostSignificantBits;
+    private long[] uuidLeastSignificantBits;
+    private String[] names;
+    private int[] causes;
+    private long[] creationTimes;
+    private long[] updateTimes;
+    private int[] expiryDays;
+    // open addressing table with linear probing, which contains the slot of an entry plus one and zero for free positions
+    private int[] index;
+    private int size;
+    private int modificationCount;
+    private final List<String> causePool = new ArrayList<>();
+    private final Map<String, Integer> causePoolIndices = new HashMap<>();
+    private Set<UUID> keySetView;
+    private Collection<RadarListEntry> valuesView;
+    private Set<Map.Entry<UUID, RadarListEntry>> entrySetView;
+
+    /**
+     * Constructs an empty {@link RadarListEntryStore}.
+     */
+    public RadarListEntryStore() {
+        this(MINIMUM_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty {@link RadarListEntryStore} with space for a given number of entries.
+     *
+     * @param expectedSize The expected number of entries.
+     */
+    public RadarListEntryStore(final int expectedSize) {
+        allocate(Math.max(expectedSize, MINIMUM_CAPACITY));
+    }
+
+    /**
+     * Constructs a {@link RadarListEntryStore} with the entries of a given map.
+     *
+     * @param playerMap The map with the entries to copy.
+     */
+    public RadarListEntryStore(final @NotNull Map<UUID, RadarListEntry> playerMap) {
+        this(playerMap.size());
+        putAll(playerMap);
+    }
+
+    /**
+     * Constructs a {@link RadarListEntryStore} with the columns of another store.
+     *
+     * @param store The store to copy.
+     */
+    private RadarListEntryStore(final @NotNull RadarListEntryStore store) {
+        uuidMostSignificantBits = store.uuidMostSignificantBits.clone();
+        uuidLeastSignificantBits = store.uuidLeastSignificantBits.clone();
+        names = store.names.clone();
+        causes = store.causes.clone();
+        creationTimes = store.creationTimes.clone();
+        updateTimes = store.updateTimes.clone();
+        expiryDays = store.expiryDays.clone();
+        index = store.index.clone();
+        size = store.size;
+        causePool.addAll(store.causePool);
+        causePoolIndices.putAll(store.causePoolIndices);
+    }
+
+    /**
+     * Copies the store. The columns are copied as a whole, so that no entry objects are created.
+     *
+     * @return Returns the copy.
+     */
+    public @NotNull RadarListEntryStore copy() {
+        return new RadarListEntryStore(this);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(final @Nullable Object key) {
+        return key instanceof UUID && findSlot((UUID) key) >= 0;
+    }
+
+    @Override
+    public @Nullable RadarListEntry get(final @Nullable Object key) {
+        if (!(key instanceof UUID)) {
+            return null;
+        }
+
+        final int slot = findSlot((UUID) key);
+        return slot < 0 ? null : materialize(slot);
+    }
+
+    @Override
+    public @Nullable RadarListEntry put(final @NotNull UUID uuid, final @NotNull RadarListEntry entry) {
+        int slot = findSlot(uuid);
+        final RadarListEntry oldEntry = slot < 0 ? null : materialize(slot);
+        if (slot < 0) {
+            ensureCapacity(size + 1);
+            slot = size++;
+            uuidMostSignificantBits[slot] = uuid.getMostSignificantBits();
+            uuidLeastSignificantBits[slot] = uuid.getLeastSignificantBits();
+            insertIntoIndex(slot);
+            modificationCount++;
+        }
+
+        names[slot] = entry.name();
+        causes[slot] = poolCause(entry.cause());
+        creationTimes[slot] = toEpochSecond(entry.entryCreationDate());
+        updateTimes[slot] = toEpochSecond(entry.entryUpdateDate());
+        expiryDays[slot] = entry.expiryDays();
+        return oldEntry;
+    }
+
+    @Override
+    public @Nullable RadarListEntry remove(final @Nullable Object key) {
+        if (!(key instanceof UUID)) {
+            return null;
+        }
+
+        final int position = findPosition(((UUID) key).getMostSignificantBits(), ((UUID) key).getLeastSignificantBits());
+        if (position < 0) {
+            return null;
+        }
+
+        final int slot = index[position] - 1;
+        final RadarListEntry oldEntry = materialize(slot);
+        removeAt(position, slot);
+        return oldEntry;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(index, 0);
+        Arrays.fill(names, 0, size, null);
+        causePool.clear();
+        causePoolIndices.clear();
+        size = 0;
+        modificationCount++;
+    }
+
+    @Override
+    public @NotNull Set<UUID> keySet() {
+        if (keySetView == null) {
+            keySetView = new AbstractSet<UUID>() {
+                @Override
+                public @NotNull Iterator<UUID> iterator() {
+                    return new SlotIterator<UUID>() {
+                        @Override
+                        protected @NotNull UUID get(final int slot) {
+                            return new UUID(uuidMostSignificantBits[slot], uuidLeastSignificantBits[slot]);
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+
+                @Override
+                public boolean contains(final @Nullable Object object) {
+                    return containsKey(object);
+                }
+
+                @Override
+                public boolean remove(final @Nullable Object object) {
+                    return RadarListEntryStore.this.remove(object) != null;
+                }
+
+                @Override
+                public void clear() {
+                    RadarListEntryStore.this.clear();
+                }
+            };
+        }
+        return keySetView;
+    }
+
+    @Override
+    public @NotNull Collection<RadarListEntry> values() {
+        if (valuesView == null) {
+            valuesView = new AbstractCollection<RadarListEntry>() {
+                @Override
+                public @NotNull Iterator<RadarListEntry> iterator() {
+                    return new SlotIterator<RadarListEntry>() {
+                        @Override
+                        protected @NotNull RadarListEntry get(final int slot) {
+                            return materialize(slot);
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+
+                @Override
+                public void clear() {
+                    RadarListEntryStore.this.clear();
+                }
+            };
+        }
+        return valuesView;
+    }
+
+    @Override
+    public @NotNull Set<Map.Entry<UUID, RadarListEntry>> entrySet() {
+        if (entrySetView == null) {
+            entrySetView = new AbstractSet<Map.Entry<UUID, RadarListEntry>>() {
+                @Override
+                public @NotNull Iterator<Map.Entry<UUID, RadarListEntry>> iterator() {
+                    return new SlotIterator<Map.Entry<UUID, RadarListEntry>>() {
+                        @Override
+                        protected @NotNull Map.Entry<UUID, RadarListEntry> get(final int slot) {
+                            final RadarListEntry entry = materialize(slot);
+                            return new SimpleImmutableEntry<>(entry.uuid(), entry);
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+
+                @Override
+                public void clear() {
+                    RadarListEntryStore.this.clear();
+                }
+            };
+        }
+        return entrySetView;
+    }
+
+    /**
+     * Creates the entry object of a slot.
+     *
+     * @param slot The slot of the entry.
+     * @return Returns the created entry.
+     */
+    private @NotNull RadarListEntry materialize(final int slot) {
+        return new RadarListEntry(new UUID(uuidMostSignificantBits[slot], uuidLeastSignificantBits[slot]), names[slot],
+                causes[slot] == NO_CAUSE ? null : causePool.get(causes[slot]), fromEpochSecond(creationTimes[slot]), fromEpochSecond(updateTimes[slot]),
+                expiryDays[slot]);
+    }
+
+    /**
+     * Gets the pool index of a cause and adds the cause to the pool if it is not in it yet.
+     *
+     * @param cause The cause.
+     * @return Returns the pool index of the cause or {@link #NO_CAUSE}, if the cause is {@code null}.
+     */
+    private int poolCause(final @Nullable String cause) {
+        if (cause == null) {
+            return NO_CAUSE;
+        }
+
+        final Integer poolIndex = causePoolIndices.get(cause);
+        if (poolIndex != null) {
+            return poolIndex;
+        }
+
+        causePool.add(cause);
+        causePoolIndices.put(cause, causePool.size() - 1);
+        return causePool.size() - 1;
+    }
+
+    /**
+     * Gets the slot of an uuid.
+     *
+     * @param uuid The uuid.
+     * @return Returns the slot of the uuid or {@code -1}, if the uuid is not in the store.
+     */
+    private int findSlot(final @NotNull UUID uuid) {
+        final int position = findPosition(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+        return position < 0 ? -1 : index[position] - 1;
+    }
+
+    /**
+     * Gets the position of an uuid in the index.
+     *
+     * @param mostSignificantBits The most significant bits of the uuid.
+     * @param leastSignificantBits The least significant bits of the uuid.
+     * @return Returns the position in the index or {@code -1}, if the uuid is not in the store.
+     */
+    private int findPosition(final long mostSignificantBits, final long leastSignificantBits) {
+        final int mask = index.length - 1;
+        int position = hash(mostSignificantBits, leastSignificantBits) & mask;
+        while (index[position] != 0) {
+            final int slot = index[position] - 1;
+            if (uuidMostSignificantBits[slot] == mostSignificantBits && uuidLeastSignificantBits[slot] == leastSignificantBits) {
+                return position;
+            }
+            position = (position + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Inserts a slot into the index, which does not contain its uuid yet.
+     *
+     * @param slot The slot to insert.
+     */
+    private void insertIntoIndex(final int slot) {
+        final int mask = index.length - 1;
+        int position = hash(uuidMostSignificantBits[slot], uuidLeastSignificantBits[slot]) & mask;
+        while (index[position] != 0) {
+            position = (position + 1) & mask;
+        }
+        index[position] = slot + 1;
+    }
+
+    /**
+     * Removes an entry. The last entry is moved into the freed slot, so that the columns stay without gaps.
+     *
+     * @param position The position of the entry in the index.
+     * @param slot The slot of the entry.
+     */
+    private void removeAt(final int position, final int slot) {
+        removeFromIndex(position);
+        final int lastSlot = --size;
+        if (slot != lastSlot) {
+            final int lastPosition = findPosition(uuidMostSignificantBits[lastSlot], uuidLeastSignificantBits[lastSlot]);
+            uuidMostSignificantBits[slot] = uuidMostSignificantBits[lastSlot];
+            uuidLeastSignificantBits[slot] = uuidLeastSignificantBits[lastSlot];
+            names[slot] = names[lastSlot];
+            causes[slot] = causes[lastSlot];
+            creationTimes[slot] = creationTimes[lastSlot];
+            updateTimes[slot] = updateTimes[lastSlot];
+            expiryDays[slot] = expiryDays[lastSlot];
+            index[lastPosition] = slot + 1;
+        }
+        names[lastSlot] = null;
+        modificationCount++;
+    }
+
+    /**
+     * Removes a position from the index and shifts the following positions of the probe sequence back, so that no tombstones are needed.
+     *
+     * @param position The position to remove.
+     */
+    private void removeFromIndex(final int position) {
+        final int mask = index.length - 1;
+        int gap = position;
+        int current = position;
+        while (true) {
+            current = (current + 1) & mask;
+            final int value = index[current];
+            if (value == 0) {
+                break;
+            }
+
+            final int home = hash(uuidMostSignificantBits[value - 1], uuidLeastSignificantBits[value - 1]) & mask;
+            // the entry may only be moved into the gap, if its home position is not between the gap and its current position
+            final boolean movable = gap <= current ? home <= gap || home > current : home <= gap && home > current;
+            if (movable) {
+                index[gap] = value;
+                gap = current;
+            }
+        }
+        index[gap] = 0;
+    }
+
+    /**
+     * Grows the columns and the index, so that a given number of entries fits.
+     *
+     * @param requiredSize The required number of entries.
+     */
+    private void ensureCapacity(final int requiredSize) {
+        if (requiredSize <= names.length) {
+            return;
+        }
+
+        final int capacity = Math.max(requiredSize, names.length + (names.length >> 1));
+        uuidMostSignificantBits = Arrays.copyOf(uuidMostSignificantBits, capacity);
+        uuidLeastSignificantBits = Arrays.copyOf(uuidLeastSignificantBits, capacity);
+        names = Arrays.copyOf(names, capacity);
+        causes = Arrays.copyOf(causes, capacity);
+        creationTimes = Arrays.copyOf(creationTimes, capacity);
+        updateTimes = Arrays.copyOf(updateTimes, capacity);
+        expiryDays = Arrays.copyOf(expiryDays, capacity);
+        if (capacity * 2 > index.length) {
+            index = new int[indexSize(capacity)];
+            for (int slot = 0; slot < size; slot++) {
+                insertIntoIndex(slot);
+            }
+        }
+    }
+
+    /**
+     * Allocates empty columns and an empty index.
+     *
+     * @param capacity The number of entries, that fit into the columns.
+     */
+    private void allocate(final int capacity) {
+        uuidMostSignificantBits = new long[capacity];
+        uuidLeastSignificantBits = new long[capacity];
+        names = new String[capacity];
+        causes = new int[capacity];
+        creationTimes = new long[capacity];
+        updateTimes = new long[capacity];
+        expiryDays = new int[capacity];
+        index = new int[indexSize(capacity)];
+    }
+
+    /**
+     * Gets the size of the index for a given capacity, which is a power of two and keeps the load factor at or below one half.
+     *
+     * @param capacity The capacity.
+     * @return Returns the size of the index.
+     */
+    private static int indexSize(final int capacity) {
+        return Integer.highestOneBit(capacity * 2 - 1) << 1;
+    }
+
+    /**
+     * Hashes an uuid with a finalizer, because the bits of version 4 uuids are random, but the ones of other versions are not.
+     *
+     * @param mostSignificantBits The most significant bits of the uuid.
+     * @param leastSignificantBits The least significant bits of the uuid.
+     * @return Returns the hash.
+     */
+    private static int hash(final long mostSignificantBits, final long leastSignificantBits) {
+        long hash = mostSignificantBits ^ Long.rotateLeft(leastSignificantBits, 32);
+        hash = (hash ^ (hash >>> 33)) * 0xff51afd7ed558ccdL;
+        hash = (hash ^ (hash >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return (int) (hash ^ (hash >>> 33));
+    }
+
+    /**
+     * Converts a date time to epoch seconds in UTC.
+     *
+     * @param localDateTime The date time.
+     * @return Returns the epoch seconds or {@link #NO_TIME}, if the date time is {@code null}.
+     */
+    private static long toEpochSecond(final @Nullable LocalDateTime localDateTime) {
+        return localDateTime == null ? NO_TIME : localDateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    /**
+     * Converts epoch seconds in UTC to a date time.
+     *
+     * @param epochSecond The epoch seconds.
+     * @return Returns the date time or {@code null}, if the epoch seconds are {@link #NO_TIME}.
+     */
+    private static @Nullable LocalDateTime fromEpochSecond(final long epochSecond) {
+        return epochSecond == NO_TIME ? null : LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+
+    /**
+     * An iterator over the slots of the store, which supports removing the current element.
+     *
+     * @param <T> The type of the elements.
+     */
+    private abstract class SlotIterator<T> implements Iterator<T> {
+        private int nextSlot;
+        private int currentSlot = -1;
+        private int expectedModificationCount = modificationCount;
+
+        @Override
+        public boolean hasNext() {
+            return nextSlot < size;
+        }
+
+        @Override
+        public T next() {
+            if (expectedModificationCount != modificationCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (nextSlot >= size) {
+                throw new NoSuchElementException();
+            }
+
+            currentSlot = nextSlot++;
+            return get(currentSlot);
+        }
+
+        @Override
+        public void remove() {
+            if (currentSlot < 0) {
+                throw new IllegalStateException();
+            }
+            if (expectedModificationCount != modificationCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            removeAt(findPosition(uuidMostSignificantBits[currentSlot], uuidLeastSignificantBits[currentSlot]), currentSlot);
+            // the last entry was moved into the removed slot, so it is visited next
+            nextSlot = currentSlot;
+            currentSlot = -1;
+            expectedModificationCount = modificationCount;
+        }
+
+        /**
+         * Gets the element of a slot.
+         *
+         * @param slot The slot.
+         * @return Returns the element.
+         */
+        protected abstract T get(final int slot);
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.forgemod.list;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Coordinates the access to a list directory, which is shared by multiple game instances.
+ * <br><br>
+ * Writes are guarded by an advisory lock on a lock file in the directory.
+ * Every write is announced in a shared change file, so that other instances only reload the changed list files.
+ */
+public class SharedListDirectory {
+    private static final Logger LOGGER = LogManager.getLogger(SharedListDirectory.class);
+    private static final long MAX_CHANGE_FILE_SIZE = 64 * 1024;
+    // the lock is also acquired on the client thread, so waiting for another instance must not freeze the game
+    private static final long LOCK_TIMEOUT_MILLIS = 1_000;
+    private static final long LOCK_RETRY_MILLIS = 20;
+    private final String instanceId = UUID.randomUUID().toString();
+    // a file lock is held by the whole process, so threads of this process are serialized with an additional monitor
+    private final Object processLock = new Object();
+    private final Path lockFile;
+    private final Path changeFile;
+    private long changeFileOffset;
+
+    /**
+     * Constructs a {@link SharedListDirectory}.
+     *
+     * @param directory The shared list directory.
+     */
+    public SharedListDirectory(final @NotNull Path directory) {
+        this.lockFile = directory.resolve(".lock");
+        this.changeFile = directory.resolve(".changes");
+        // changes before the start are already contained in the loaded lists
+        this.changeFileOffset = getChangeFileSize();
+    }
+
+    /**
+     * Runs an action while holding the lock of the directory.
+     * If the lock can not be acquired within a second, for example because another instance holds it or on a file system without lock support, the action is run without it.
+     *
+     * @param action The action to run.
+     * @param <T> The type of the result.
+     * @return Returns the result of the action.
+     */
+    public <T> T runLocked(final @NotNull Supplier<T> action) {
+        synchronized (processLock) {
+            FileChannel channel = null;
+            FileLock lock = null;
+            try {
+                channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                lock = tryLock(channel);
+                if (lock == null) {
+                    LOGGER.warn("The list directory is locked by another instance for more than {} ms, writing without lock", LOCK_TIMEOUT_MILLIS);
+                }
+            } catch (final IOException e) {
+                LOGGER.warn("Could not lock the list directory, writing without lock", e);
+            }
+
+            try {
+                return action.get();
+            } finally {
+                try {
+                    if (lock != null) {
+                        lock.release();
+                    }
+                    if (channel != null) {
+                        channel.close();
+                    }
+                } catch (final IOException e) {
+                    LOGGER.warn("Could not release the lock of the list directory", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Tries to lock a channel until the timeout is reached.
+     *
+     * @param channel The channel to lock.
+     * @return Returns the lock or {@code null}, if another instance held the lock until the timeout or the thread was interrupted.
+     * @throws IOException If the channel could not be locked.
+     */
+    private static @Nullable FileLock tryLock(final @NotNull FileChannel channel) throws IOException {
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(LOCK_TIMEOUT_MILLIS);
+        while (true) {
+            final FileLock lock = channel.tryLock();
+            if (lock != null || System.nanoTime() - deadline >= 0) {
+                return lock;
+            }
+
+            try {
+                Thread.sleep(LOCK_RETRY_MILLIS);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Announces a changed list file to the other instances. Should be called while holding the lock.
+     *
+     * @param fileName The name of the changed file.
+     */
+    public void announceChange(final @NotNull String fileName) {
+        try {
+            // the change file is cleared once it gets too large, the other instances start reading it from the beginning then
+            final boolean truncate = getChangeFileSize() > MAX_CHANGE_FILE_SIZE;
+            Files.write(changeFile, (instanceId + " " + fileName + "\n").getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    truncate ? StandardOpenOption.TRUNCATE_EXISTING : StandardOpenOption.APPEND);
+        } catch (final IOException e) {
+            LOGGER.warn("Could not announce the change of list file {}", fileName, e);
+        }
+    }
+
+    /**
+     * Reads the changes announced by other instances since the last call.
+     *
+     * @return Returns the names of the changed files.
+     */
+    public synchronized @NotNull Set<String> readChanges() {
+        final Set<String> fileNames = new LinkedHashSet<>();
+        if (!Files.exists(changeFile)) {
+            changeFileOffset = 0;
+            return fileNames;
+        }
+
+        try (final FileChannel channel = FileChannel.open(changeFile, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size < changeFileOffset) {
+                // the change file was cleared
+                changeFileOffset = 0;
+            }
+            if (size == changeFileOffset) {
+                return fileNames;
+            }
+
+            final ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(size - changeFileOffset, Integer.MAX_VALUE));
+            while (buffer.hasRemaining() && channel.read(buffer, changeFileOffset + buffer.position()) > 0) {
+                // read until the buffer is full
+            }
+            final String content = new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8);
+            // only complete lines are consumed, an incomplete line is read again with the next call
+            final int end = content.lastIndexOf('\n') + 1;
+            for (final String line : content.substring(0, end).split("\n")) {
+                final int separator = line.indexOf(' ');
+                if (separator > 0 && !line.substring(0, separator).equals(instanceId)) {
+                    fileNames.add(line.substring(separator + 1));
+                }
+            }
+            changeFileOffset += content.substring(0, end).getBytes(StandardCharsets.UTF_8).length;
+        } catch (final IOException e) {
+            LOGGER.warn("Could not read the list change file", e);
+        }
+        return fileNames;
+    }
+
+    /**
+     * Gets the size of the change file.
+     *
+     * @return Returns the size or {@code 0}, if the file does not exist.
+     */
+    private long getChangeFileSize() {
+        try {
+            return Files.exists(changeFile) ? Files.size(changeFile) : 0;
+        } catch (final IOException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.forgemod.list;
+
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.reflect.TypeToken;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A registry for the subscriptions to remote lists, which is persisted in a file.
+ */
+public class SubscriptionRegistry {
+    private static final Logger LOGGER = LogManager.getLogger(SubscriptionRegistry.class);
+    private final File file;
+    private final List<ListSubscription> subscriptions = new ArrayList<>();
+
+    /**
+     * Constructs a {@link SubscriptionRegistry}.
+     *
+     * @param file The file the subscriptions are persisted in.
+     */
+    public SubscriptionRegistry(final @NotNull File file) {
+        this.file = file;
+    }
+
+    /**
+     * Loads the subscriptions from the file, if it exists.
+     */
+    public synchronized void load() {
+        subscriptions.clear();
+        if (!file.exists()) {
+            return;
+        }
+
+        try (final FileReader reader = new FileReader(file)) {
+            final List<ListSubscription> loadedSubscriptions = ListManager.GSON.fromJson(reader, new TypeToken<List<ListSubscription>>() {}.getType());
+            if (loadedSubscriptions == null) {
+                return;
+            }
+
+            for (final ListSubscription subscription : loadedSubscriptions) {
+                if (subscription != null && subscription.validateSubscription()) {
+                    subscriptions.add(subscription);
+                } else {
+                    LOGGER.warn("Skipping invalid list subscription in {}", file);
+                }
+            }
+        } catch (final IOException | JsonIOException | JsonSyntaxException e) {
+            LOGGER.error("Could not load list subscriptions", e);
+        }
+    }
+
+    /**
+     * Saves the subscriptions to the file.
+     */
+    private void save() {
+        final File parent = file.getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs()) {
+            LOGGER.error("Could not create directory: {}", parent);
+        }
+
+        try (final FileWriter writer = new FileWriter(file)) {
+            writer.write(ListManager.GSON.toJson(subscriptions));
+        } catch (final IOException e) {
+            LOGGER.error("Could not save list subscriptions", e);
+        }
+    }
+
+    /**
+     * Gets all subscriptions.
+     *
+     * @return Returns an immutable copy of the subscriptions.
+     */
+    public synchronized @NotNull List<ListSubscription> getSubscriptions() {
+        return Collections.unmodifiableList(new ArrayList<>(subscriptions));
+    }
+
+    /**
+     * Gets a subscription by a given namespace.
+     *
+     * @param namespace The namespace to get the subscription for.
+     * @return Returns an optional with the found subscription.
+     */
+    public synchronized @NotNull Optional<ListSubscription> getSubscription(final @NotNull String namespace) {
+        return subscriptions.stream()
+                .filter(subscription -> subscription.getNamespace().equalsIgnoreCase(namespace))
+                .findFirst();
+    }
+
+    /**
+     * Adds a subscription and saves the registry.
+     *
+     * @param subscription The subscription to add.
+     * @return Returns, whether the subscription was added.
+     */
+    public synchronized boolean addSubscription(final @NotNull ListSubscription subscription) {
+        if (!subscription.validateSubscription() || getSubscription(subscription.getNamespace()).isPresent()) {
+            return false;
+        }
+
+        subscriptions.add(subscription);
+        save();
+        return true;
+    }
+
+    /**
+     * Removes a subscription by its namespace and saves the registry.
+     *
+     * @param namespace The namespace of the subscription.
+     * @return Returns, whether a subscription was removed.
+     */
+    public synchronized boolean removeSubscription(final @NotNull String namespace) {
+        if (!subscriptions.removeIf(subscription -> subscription.getNamespace().equalsIgnoreCase(namespace))) {
+            return false;
+        }
+
+        save();
+        return true;
+    }
+}
@@ -23,21 +23,153 @@ import com.google.gson.JsonPrimitive;
 import com.google.gson.JsonSerializationContext;
 import com.google.gson.JsonSerializer;
 
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
 import java.lang.reflect.Type;
+import java.time.DateTimeException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
 /**
  * A class with an adapter for serialization and deserialization of the class {@link LocalDateTime} for the GSON library.
+ * The fixed layout {@code yyyy-MM-ddTHH:mm:ss[.fraction]} written by the mod is handled by hand, everything else falls back to {@link DateTimeFormatter#ISO_DATE_TIME}.
  */
 public class GsonLocalDateTimeAdapter implements JsonSerializer<LocalDateTime>, JsonDeserializer<LocalDateTime> {
+    private static final int SECOND_LAYOUT_LENGTH = 19;
+    private static final int[] FRACTION_SCALES = {100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000, 100, 10, 1};
+
     @Override
     public LocalDateTime deserialize(final JsonElement json, final Type typeOfT, final JsonDeserializationContext context) throws JsonParseException {
-        return LocalDateTime.parse(json.getAsString(), DateTimeFormatter.ISO_DATE_TIME);
+        return parse(json.getAsString());
     }
 
     @Override
     public JsonElement serialize(final LocalDateTime localDateTime, final Type typeOfSrc, final JsonSerializationContext context) {
-        return new JsonPrimitive(localDateTime.format(DateTimeFormatter.ISO_DATE_TIME));
+        return new JsonPrimitive(format(localDateTime));
+    }
+
+    /**
+     * Parses a date time like {@link DateTimeFormatter#ISO_DATE_TIME}. The fixed layout is parsed by hand, everything else by the general parser.
+     *
+     * @param text The text to parse.
+     * @return Returns the parsed date time.
+     * @throws DateTimeException If the text is no valid date time.
+     */
+    static @NotNull LocalDateTime parse(final @NotNull String text) {
+        final LocalDateTime localDateTime = parseFixedLayout(text);
+        return localDateTime == null ? LocalDateTime.parse(text, DateTimeFormatter.ISO_DATE_TIME) : localDateTime;
+    }
+
+    /**
+     * Parses a date time in the fixed layout {@code yyyy-MM-ddTHH:mm:ss} with an optional fraction of up to nine digits.
+     *
+     * @param text The text to parse.
+     * @return Returns the parsed date time or {@code null}, if the text has another layout or invalid values and needs the general parser.
+     */
+    private static @Nullable LocalDateTime parseFixedLayout(final @NotNull String text) {
+        final int length = text.length();
+        if (length < SECOND_LAYOUT_LENGTH || length == SECOND_LAYOUT_LENGTH + 1 || length > SECOND_LAYOUT_LENGTH + 1 + FRACTION_SCALES.length
+                || text.charAt(4) != '-' || text.charAt(7) != '-' || text.charAt(10) != 'T' || text.charAt(13) != ':' || text.charAt(16) != ':'
+                || (length > SECOND_LAYOUT_LENGTH && text.charAt(SECOND_LAYOUT_LENGTH) != '.')) {
+            return null;
+        }
+
+        final int year = parseDigits(text, 0, 4);
+        final int month = parseDigits(text, 5, 7);
+        final int day = parseDigits(text, 8, 10);
+        final int hour = parseDigits(text, 11, 13);
+        final int minute = parseDigits(text, 14, 16);
+        final int second = parseDigits(text, 17, SECOND_LAYOUT_LENGTH);
+        int nano = 0;
+        if (length > SECOND_LAYOUT_LENGTH) {
+            final int fraction = parseDigits(text, SECOND_LAYOUT_LENGTH + 1, length);
+            nano = fraction < 0 ? -1 : fraction * FRACTION_SCALES[length - SECOND_LAYOUT_LENGTH - 2];
+        }
+        if (year < 0 || month < 0 || day < 0 || hour < 0 || minute < 0 || second < 0 || nano < 0) {
+            return null;
+        }
+
+        try {
+            return LocalDateTime.of(year, month, day, hour, minute, second, nano);
+        } catch (final DateTimeException e) {
+            // let the general parser report the invalid value
+            return null;
+        }
+    }
+
+    /**
+     * Parses a range of ascii digits.
+     *
+     * @param text The text.
+     * @param start The start index, inclusive.
+     * @param end The end index, exclusive.
+     * @return Returns the parsed number or {@code -1}, if the range contains a character, which is not an ascii digit.
+     */
+    private static int parseDigits(final @NotNull String text, final int start, final int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            final int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    /**
+     * Formats a date time like {@link DateTimeFormatter#ISO_DATE_TIME}, which omits a zero fraction and trailing zeros of the fraction.
+     * Years outside of four digits are formatted by the general formatter.
+     *
+     * @param localDateTime The date time to format.
+     * @return Returns the formatted date time.
+     */
+    static @NotNull String format(final @NotNull LocalDateTime localDateTime) {
+        final int year = localDateTime.getYear();
+        if (year < 0 || year > 9999) {
+            return localDateTime.format(DateTimeFormatter.ISO_DATE_TIME);
+        }
+
+        final char[] chars = new char[SECOND_LAYOUT_LENGTH + 1 + FRACTION_SCALES.length];
+        writeDigits(chars, 0, year, 4);
+        chars[4] = '-';
+        writeDigits(chars, 5, localDateTime.getMonthValue(), 2);
+        chars[7] = '-';
+        writeDigits(chars, 8, localDateTime.getDayOfMonth(), 2);
+        chars[10] = 'T';
+        writeDigits(chars, 11, localDateTime.getHour(), 2);
+        chars[13] = ':';
+        writeDigits(chars, 14, localDateTime.getMinute(), 2);
+        chars[16] = ':';
+        writeDigits(chars, 17, localDateTime.getSecond(), 2);
+
+        int length = SECOND_LAYOUT_LENGTH;
+        final int nano = localDateTime.getNano();
+        if (nano != 0) {
+            chars[length] = '.';
+            writeDigits(chars, length + 1, nano, FRACTION_SCALES.length);
+            length += 1 + FRACTION_SCALES.length;
+            while (chars[length - 1] == '0') {
+                length--;
+            }
+        }
+        return new String(chars, 0, length);
+    }
+
+    /**
+     * Writes a number with leading zeros.
+     *
+     * @param chars The target chars.
+     * @param start The index of the first digit.
+     * @param number The number to write.
+     * @param digits The number of digits.
+     */
+    private static void writeDigits(final char[] chars, final int start, final int number, final int digits) {
+        int value = number;
+        for (int i = start + digits - 1; i >= start; i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
     }
 }
@@ -23,9 +23,9 @@ import com.google.gson.JsonParseException;
 import com.google.gson.JsonSerializationContext;
 import com.google.gson.JsonSerializer;
 import io.github.communityradargg.forgemod.list.RadarListEntry;
+import io.github.communityradargg.forgemod.list.RadarListEntryStore;
 
 import java.lang.reflect.Type;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 
@@ -36,7 +36,7 @@ public class GsonRadarListPlayerMapAdapter implements JsonSerializer<Map<UUID, R
     @Override
     public Map<UUID, RadarListEntry> deserialize(final JsonElement json, final Type typeOfT, final JsonDeserializationContext context) throws JsonParseException {
         final JsonArray playerMapJsonArray = json.getAsJsonArray();
-        final Map<UUID, RadarListEntry> playerMap = new HashMap<>();
+        final Map<UUID, RadarListEntry> playerMap = new RadarListEntryStore(playerMapJsonArray.size());
 
         playerMapJsonArray.forEach(jsonElement -> {
             final RadarListEntry entry = context.deserialize(jsonElement, RadarListEntry.class);
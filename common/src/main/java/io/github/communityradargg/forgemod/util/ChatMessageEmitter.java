@@ -0,0 +1,63 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.forgemod.util;
+
+import org.jetbrains.annotations.NotNull;
+import java.util.Collection;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * Collects chat messages from any thread and sends them on the client thread, a few per tick.
+ * Long outputs are spread over multiple ticks this way, so that the chat does not freeze while adding hundreds of lines at once.
+ */
+public class ChatMessageEmitter {
+    private static final int MESSAGES_PER_TICK = 4;
+    private final Queue<String> pendingMessages = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Schedules messages to be sent in the given order after all messages, which are already pending.
+     *
+     * @param messages The messages.
+     */
+    public void enqueue(final @NotNull Collection<String> messages) {
+        pendingMessages.addAll(messages);
+    }
+
+    /**
+     * Discards all pending messages.
+     */
+    public void clear() {
+        pendingMessages.clear();
+    }
+
+    /**
+     * Sends the pending messages, which fit into the current tick.
+     * This method should only be called on the client thread.
+     *
+     * @param sender The consumer sending a single message.
+     */
+    public void drain(final @NotNull Consumer<String> sender) {
+        for (int i = 0; i < MESSAGES_PER_TICK; i++) {
+            final String message = pendingMessages.poll();
+            if (message == null) {
+                return;
+            }
+            sender.accept(message);
+        }
+    }
+}
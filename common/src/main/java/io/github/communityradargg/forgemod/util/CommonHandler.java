@@ -15,28 +15,50 @@
  */
 package io.github.communityradargg.forgemod.util;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.net.InetAddresses;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
+import io.github.communityradargg.forgemod.list.EntryExpiryTracker;
 import io.github.communityradargg.forgemod.list.ListManager;
+import io.github.communityradargg.forgemod.list.ListSubscription;
+import io.github.communityradargg.forgemod.list.PrivateListWatcher;
+import io.github.communityradargg.forgemod.list.PublicListRefresher;
+import io.github.communityradargg.forgemod.list.RadarList;
+import io.github.communityradargg.forgemod.list.SubscriptionRegistry;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import java.io.BufferedReader;
+import java.io.File;
 import java.io.InputStreamReader;
 import java.net.HttpURLConnection;
+import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.net.URL;
+import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Locale;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 /**
  * A class for handling many utility and central tasks and holds the version bridge.
@@ -48,9 +70,33 @@ public class CommonHandler {
     private static final Pattern UUID_MOJANG_API_PATTERN = Pattern.compile("(\\w{8})(\\w{4})(\\w{4})(\\w{4})(\\w{12})");
     private final DateTimeFormatter readableDateTimeFormatter = DateTimeFormatter.ofPattern("dd.MM.yyyy HH:mm:ss");
     private final PlayerNameUuidCache playerNameUuidCache = new PlayerNameUuidCache();
+    private final PlayerNameUuidPrefetcher playerNameUuidPrefetcher = new PlayerNameUuidPrefetcher(this, playerNameUuidCache);
+    private final PlayerNameBatchResolver playerNameBatchResolver = new PlayerNameBatchResolver(this, playerNameUuidCache);
+    private final PlayerUpdateScheduler playerUpdateScheduler = new PlayerUpdateScheduler();
+    private final ChatMessageEmitter chatMessageEmitter = new ChatMessageEmitter();
+    private final Queue<Runnable> clientThreadTasks = new ConcurrentLinkedQueue<>();
+    private final ExecutorService ioExecutor = Executors.newFixedThreadPool(4, new ThreadFactoryBuilder()
+            .setNameFormat(MOD_ID + "-io-%d")
+            .setDaemon(true)
+            .build());
+    // imports wait for the rate limit of the name lookups, so they get their own thread instead of blocking the I/O executor
+    private final ExecutorService importExecutor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+            .setNameFormat(MOD_ID + "-import-%d")
+            .setDaemon(true)
+            .build());
+    private final Cache<String, Boolean> reverseLookupCache = CacheBuilder.newBuilder()
+            .expireAfterWrite(1, TimeUnit.HOURS)
+            .build();
     private final VersionBridge versionBridge;
+    private final RadarConfig config;
+    private final DomainSuffixMatcher serverDomainMatcher;
     private final ListManager listManager;
-    private boolean onGrieferGames = false;
+    private final SubscriptionRegistry subscriptionRegistry;
+    private final PublicListRefresher publicListRefresher = new PublicListRefresher(this);
+    private final EntryExpiryTracker entryExpiryTracker = new EntryExpiryTracker(this);
+    private volatile PrefixMatcher prefixMatcher;
+    private volatile SocketAddress connectedAddress;
+    private volatile boolean onGrieferGames = false;
 
     /**
      * Constructs a {@link CommonHandler}.
@@ -59,30 +105,93 @@ public class CommonHandler {
      */
     public CommonHandler(final @NotNull VersionBridge versionBridge) {
         this.versionBridge = versionBridge;
+        this.config = RadarConfig.load(Paths.get(new File("").getAbsolutePath(), MOD_ID, "config.json").toFile());
+        this.serverDomainMatcher = new DomainSuffixMatcher(config.getServerDomains());
 
-        listManager = new ListManager(this);
+        listManager = new ListManager(this, config.getPrivateListFormat());
+        subscriptionRegistry = new SubscriptionRegistry(Paths.get(new File("").getAbsolutePath(), MOD_ID, "subscriptions.json").toFile());
+        subscriptionRegistry.load();
         registerPublicLists();
         // Needs to be after loading public lists
-        listManager.loadPrivateLists();
+        listManager.loadPrivateLists(ioExecutor, config.isLazyPrivateLists());
+        new PrivateListWatcher(this, listManager.getDirectory()).start();
     }
 
     /**
-     * Registers the public lists.
+     * Registers the public lists and the subscribed lists. All lists are fetched concurrently on the I/O executor and are refreshed periodically.
      */
     private void registerPublicLists() {
-        if (!listManager.registerPublicList("scammer", "&7[&cScammer&7]", "https://lists.community-radar.de/versions/v1/scammer.json")) {
-            LOGGER.error("Could not register public list 'scammers'!");
+        final List<ListSubscription> subscriptions = new ArrayList<>();
+        // the built-in lists have no manifest yet and are always fully downloaded, subscriptions can set a manifest url
+        subscriptions.add(new ListSubscription("scammer", "&7[&cScammer&7]", "https://lists.community-radar.de/versions/v1/scammer.json",
+                ListSubscription.DEFAULT_REFRESH_INTERVAL_MINUTES));
+        subscriptions.add(new ListSubscription("trusted", "&7[&aTrusted&7]", "https://lists.community-radar.de/versions/v1/trusted.json",
+                ListSubscription.DEFAULT_REFRESH_INTERVAL_MINUTES));
+        subscriptions.addAll(subscriptionRegistry.getSubscriptions());
+
+        final List<RadarList> publicLists = subscriptions.stream()
+                .map(subscription -> subscription.createRadarList(this))
+                .collect(Collectors.toList());
+        final List<RadarList> registeredLists = listManager.registerPublicLists(publicLists, ioExecutor);
+        for (final ListSubscription subscription : subscriptions) {
+            registeredLists.stream()
+                    .filter(list -> list.getNamespace().equals(subscription.getNamespace()))
+                    .findFirst()
+                    .ifPresent(list -> publicListRefresher.schedule(list, subscription.getRefreshIntervalMinutes()));
         }
+    }
 
-        if (!listManager.registerPublicList("trusted", "&7[&aTrusted&7]", "https://lists.community-radar.de/versions/v1/trusted.json")) {
-            LOGGER.error("Could not register public list 'verbvllert_trusted'!");
+    /**
+     * Subscribes to a remote list. The subscription is persisted, the list is fetched on the I/O executor and refreshed periodically afterwards.
+     *
+     * @param subscription The subscription to add.
+     * @return Returns a completable future with the state, whether the list was subscribed.
+     */
+    public @NotNull CompletableFuture<Boolean> subscribeList(final @NotNull ListSubscription subscription) {
+        if (listManager.getRadarList(subscription.getNamespace()).isPresent() || !subscriptionRegistry.addSubscription(subscription)) {
+            return CompletableFuture.completedFuture(false);
         }
+
+        return CompletableFuture.supplyAsync(() -> {
+            final RadarList list = subscription.createRadarList(this);
+            // a list, which can not be loaded at first, is neither registered nor kept subscribed
+            if (!listManager.registerPublicList(list)) {
+                subscriptionRegistry.removeSubscription(subscription.getNamespace());
+                return false;
+            }
+
+            publicListRefresher.schedule(list, subscription.getRefreshIntervalMinutes());
+            updatePlayersByUuids(list.getPlayerMap().keySet(), getPrefixMatcher());
+            return true;
+        }, ioExecutor);
+    }
+
+    /**
+     * Unsubscribes from a remote list and removes the list.
+     *
+     * @param namespace The namespace of the subscribed list.
+     * @return Returns, whether the list was unsubscribed.
+     */
+    public boolean unsubscribeList(final @NotNull String namespace) {
+        if (!subscriptionRegistry.removeSubscription(namespace)) {
+            return false;
+        }
+
+        publicListRefresher.cancel(namespace);
+        final PrefixMatcher oldPrefixes = getPrefixMatcher();
+        final Set<UUID> oldUuids = listManager.getRadarList(namespace)
+                .map(list -> list.getPlayerMap().keySet())
+                .orElse(Collections.emptySet());
+        if (listManager.unregisterPublicList(namespace)) {
+            updatePlayersByUuids(oldUuids, oldPrefixes);
+        }
+        return true;
     }
 
     /**
      * Checks if a given hostname is a hostname of GrieferGames.
      * <br><br>
-     * Following domains are taken into account:
+     * The domains are taken from the config, by default following domains and their subdomains are taken into account:
      * <br>
      * - griefergames.net
      * <br>
@@ -94,11 +203,7 @@ public class CommonHandler {
      * @return Returns, whether the given hostname is one of the GrieferGames hostnames.
      */
     public boolean isGrieferGamesHostName(final @NotNull String hostName) {
-        final String filteredHostName = Optional.of(hostName)
-                .filter(host -> host.endsWith("."))
-                .map(host -> host.substring(0, host.length() - 1).toLowerCase(Locale.ENGLISH))
-                .orElse(hostName.toLowerCase(Locale.ENGLISH));
-        return filteredHostName.endsWith("griefergames.net") || filteredHostName.endsWith("griefergames.de") || filteredHostName.endsWith("griefergames.live");
+        return serverDomainMatcher.matches(hostName);
     }
 
     /**
@@ -127,11 +232,15 @@ public class CommonHandler {
      * @param onGrieferGames The GrieferGames connection state to set.
      */
     public void setOnGrieferGames(final boolean onGrieferGames) {
+        this.connectedAddress = null;
         this.onGrieferGames = onGrieferGames;
     }
 
     /**
      * Sets the GrieferGames connection state.
+     * <br><br>
+     * The host string the connection was opened with is used, so no reverse DNS lookup is done on the calling thread.
+     * If the connection was opened with an IP address, the host name is looked up asynchronously and the result is cached.
      *
      * @param isLocal The state, whether the connection is local.
      * @param socketAddress The socket address.
@@ -145,12 +254,34 @@ public class CommonHandler {
             return;
         }
 
-        final String hostname = ((InetSocketAddress) socketAddress).getHostName();
-        if (isGrieferGamesHostName(hostname)) {
+        final InetSocketAddress inetSocketAddress = (InetSocketAddress) socketAddress;
+        final String hostString = inetSocketAddress.getHostString();
+        connectedAddress = socketAddress;
+        if (isGrieferGamesHostName(hostString)) {
             onGrieferGames = true;
             return;
         }
         onGrieferGames = false;
+
+        final InetAddress inetAddress = inetSocketAddress.getAddress();
+        if (inetAddress == null || !InetAddresses.isInetAddress(hostString)) {
+            // connected with a host name, which is not one of GrieferGames
+            return;
+        }
+
+        final Boolean cachedResult = reverseLookupCache.getIfPresent(hostString);
+        if (cachedResult != null) {
+            onGrieferGames = cachedResult;
+            return;
+        }
+
+        CompletableFuture.supplyAsync(() -> isGrieferGamesHostName(inetAddress.getCanonicalHostName()), ioExecutor)
+                .thenAccept(result -> {
+                    reverseLookupCache.put(hostString, result);
+                    if (socketAddress.equals(connectedAddress)) {
+                        onGrieferGames = result;
+                    }
+                });
     }
 
     /**
@@ -186,16 +317,59 @@ public class CommonHandler {
         }
 
         // If no player with same name is in the world, try fetching the UUID from the Mojang-API.
-        return commonHandler.requestUuidForName(playerName);
+        return commonHandler.requestUuidForName(playerName, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Tries to get the uuid to the player name without blocking, from the cache or the world.
+     * If the uuid is not known yet, it will be prefetched in the background, so that later calls can return it.
+     *
+     * @param playerName The player name to get the corresponding uuid.
+     * @return Returns an optional with the player uuid, it will be empty if the uuid is not known yet.
+     */
+    public @NotNull Optional<UUID> getKnownUuidByPlayerName(final @NotNull String playerName) {
+        final Optional<UUID> uuidFromCache = playerNameUuidCache.get(playerName);
+        if (uuidFromCache.isPresent() || versionBridge.isNotInWorld()) {
+            return uuidFromCache;
+        }
+
+        playerNameUuidCache.putAll(versionBridge.getWorldPlayers());
+        final Optional<UUID> uuidFromWorldLookup = playerNameUuidCache.get(playerName);
+        if (!uuidFromWorldLookup.isPresent()) {
+            playerNameUuidPrefetcher.prefetch(playerName);
+        }
+        return uuidFromWorldLookup;
+    }
+
+    /**
+     * Prefetches the uuid to a player name in the background, if it is not known yet.
+     *
+     * @param playerName The player name to prefetch the uuid for.
+     */
+    public void prefetchUuidByPlayerName(final @NotNull String playerName) {
+        playerNameUuidPrefetcher.prefetch(playerName);
+    }
+
+    /**
+     * Requests an uuid to a player name, from the Mojang API.
+     *
+     * @param playerName The player name to get the uuid for.
+     * @param executor The executor to run the request on.
+     * @return Returns a CompletableFuture with an optional with the requested uuid, it will be empty if an error occurred on requesting.
+     */
+    @NotNull CompletableFuture<Optional<UUID>> requestUuidForName(final @NotNull String playerName, final @NotNull Executor executor) {
+        return requestUuidForName(playerName, executor, () -> {});
     }
 
     /**
      * Requests an uuid to a player name, from the Mojang API.
      *
      * @param playerName The player name to get the uuid for.
+     * @param executor The executor to run the request on.
+     * @param notFoundHandler The handler, which is run if the Mojang API answered, that no player has the name. It is not run on other errors.
      * @return Returns a CompletableFuture with an optional with the requested uuid, it will be empty if an error occurred on requesting.
      */
-    private @NotNull CompletableFuture<Optional<UUID>> requestUuidForName(final @NotNull String playerName) {
+    @NotNull CompletableFuture<Optional<UUID>> requestUuidForName(final @NotNull String playerName, final @NotNull Executor executor, final @NotNull Runnable notFoundHandler) {
         final String urlText = MOJANG_API_NAME_TO_UUID + playerName;
         return CompletableFuture.supplyAsync(() -> {
             HttpURLConnection connection = null;
@@ -207,6 +381,9 @@ public class CommonHandler {
                 connection.setRequestMethod("GET");
                 connection.setRequestProperty("User-Agent", CommonHandler.MOD_ID + "/" + versionBridge.getVersion());
 
+                if (connection.getResponseCode() == HttpURLConnection.HTTP_NO_CONTENT || connection.getResponseCode() == HttpURLConnection.HTTP_NOT_FOUND) {
+                    notFoundHandler.run();
+                }
                 if (connection.getResponseCode() != HttpURLConnection.HTTP_OK) {
                     LOGGER.warn("Requesting data from '{}' resulted in following status code: {}", urlText, connection.getResponseCode());
                     return Optional.empty();
@@ -231,7 +408,7 @@ public class CommonHandler {
                 LOGGER.error("Trying to request data from '{}' resulted in an exception", urlText, e);
                 return Optional.empty();
             }
-        });
+        }, executor);
     }
 
     /**
@@ -252,6 +429,24 @@ public class CommonHandler {
         versionBridge.addMessageToChat(message);
     }
 
+    /**
+     * Adds multiple chat messages to the player chat. The messages are spread over the next ticks, so that long outputs do not freeze the chat.
+     *
+     * @param messages The messages in the order they are added.
+     */
+    public void addMessagesToChat(final @NotNull List<String> messages) {
+        chatMessageEmitter.enqueue(messages);
+    }
+
+    /**
+     * Runs a task on the client thread in the next tick. The tasks also run, while the player is not in a world.
+     *
+     * @param task The task to run.
+     */
+    public void runOnClientThread(final @NotNull Runnable task) {
+        clientThreadTasks.add(task);
+    }
+
     /**
      * Gets the player info data for all players in the current world.
      *
@@ -262,13 +457,24 @@ public class CommonHandler {
     }
 
     /**
-     * Updates a player display name and name tag by its uuid.
+     * Schedules an update of a player display name and name tag by its uuid. The update is applied on the client thread in one of the next ticks.
      *
      * @param uuid The uuid to update the corresponding player.
-     * @param oldPrefixes The old prefixes.
+     * @param oldPrefixes A matcher for the old prefixes.
      */
-    public void updatePlayerByUuid(final @NotNull UUID uuid, final @NotNull Set<String> oldPrefixes) {
-        versionBridge.updatePlayerByUuid(this, uuid, oldPrefixes);
+    public void updatePlayerByUuid(final @NotNull UUID uuid, final @NotNull PrefixMatcher oldPrefixes) {
+        playerUpdateScheduler.schedule(uuid, oldPrefixes);
+    }
+
+    /**
+     * Schedules an update of the display names and name tags of all online players, whose uuid is in the given set.
+     * The updates are applied on the client thread in one of the next ticks.
+     *
+     * @param uuids The uuids to update the corresponding players.
+     * @param oldPrefixes A matcher for the old prefixes.
+     */
+    public void updatePlayersByUuids(final @NotNull Set<UUID> uuids, final @NotNull PrefixMatcher oldPrefixes) {
+        playerUpdateScheduler.scheduleAll(uuids, oldPrefixes);
     }
 
     /**
@@ -279,11 +485,28 @@ public class CommonHandler {
     }
 
     /**
-     * Handles the key input event.
+     * Handles the client tick event.
      */
-    public void handleKeyInputEvent() {
-        if (onGrieferGames && versionBridge.isPlayerListKeyPressed()) {
-            versionBridge.updatePrefixes(this, listManager.getExistingPrefixes());
+    public void handleClientTickEvent() {
+        Runnable task;
+        while ((task = clientThreadTasks.poll()) != null) {
+            try {
+                task.run();
+            } catch (final RuntimeException e) {
+                LOGGER.error("Could not run a task on the client thread", e);
+            }
+        }
+
+        if (versionBridge.isNotInWorld()) {
+            // new players get decorated when they are loaded
+            playerUpdateScheduler.clear();
+            chatMessageEmitter.clear();
+            return;
+        }
+        chatMessageEmitter.drain(this::addMessageToChat);
+        playerUpdateScheduler.drain((uuids, oldPrefixes) -> versionBridge.updatePlayersByUuids(this, uuids, oldPrefixes));
+        if (onGrieferGames) {
+            versionBridge.updatePrefixes(this);
         }
     }
 
@@ -308,14 +531,63 @@ public class CommonHandler {
     }
 
     /**
-     * Checks if the given prefix candidate is matching with any of the old prefixes.
+     * Gets the prefix matcher for all existing prefixes. The matcher is cached and only compiled again, if the prefixes have changed.
+     *
+     * @return Returns the prefix matcher.
+     */
+    public @NotNull PrefixMatcher getPrefixMatcher() {
+        final Set<String> prefixes = listManager.getExistingPrefixes();
+        PrefixMatcher matcher = prefixMatcher;
+        if (matcher == null || matcher.getPrefixes() != prefixes) {
+            matcher = new PrefixMatcher(prefixes, this::unformatPrefixForCompare);
+            prefixMatcher = matcher;
+        }
+        return matcher;
+    }
+
+    /**
+     * Gets the executor for blocking I/O tasks like fetching lists.
+     *
+     * @return Returns the I/O executor.
+     */
+    public @NotNull Executor getIoExecutor() {
+        return ioExecutor;
+    }
+
+    /**
+     * Gets the executor for imports, which runs one import at a time.
+     *
+     * @return Returns the import executor.
+     */
+    public @NotNull Executor getImportExecutor() {
+        return importExecutor;
+    }
+
+    /**
+     * Gets the subscription registry.
+     *
+     * @return Returns the subscription registry.
+     */
+    public @NotNull SubscriptionRegistry getSubscriptionRegistry() {
+        return subscriptionRegistry;
+    }
+
+    /**
+     * Gets the resolver for many player names at once.
+     *
+     * @return Returns the player name batch resolver.
+     */
+    public @NotNull PlayerNameBatchResolver getPlayerNameBatchResolver() {
+        return playerNameBatchResolver;
+    }
+
+    /**
+     * Gets the entry expiry tracker.
      *
-     * @param prefixCandidate The possible prefix candidate.
-     * @param oldPrefixes The old prefixes.
-     * @return Returns {@code true} if there is a match, else {@code false}.
+     * @return Returns the entry expiry tracker.
      */
-    public boolean isPrefixMatching(final @NotNull String prefixCandidate, final @NotNull Set<@NotNull String> oldPrefixes) {
-        return oldPrefixes.stream().anyMatch(old -> unformatPrefixForCompare(old).equals(prefixCandidate));
+    public @NotNull EntryExpiryTracker getEntryExpiryTracker() {
+        return entryExpiryTracker;
     }
 
     /**
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.forgemod.util;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Holds the state of a display name decoration applied by the mod, to be able to detect whether it is still current.
+ *
+ * @param <T> The version specific text component type.
+ */
+public class DisplayNameDecoration<T> {
+    private final long listVersion;
+    private final T undecoratedDisplayName;
+    private final T decoratedDisplayName;
+
+    /**
+     * Constructs a {@link DisplayNameDecoration}.
+     *
+     * @param listVersion The list version the decoration was computed for.
+     * @param undecoratedDisplayName The display name before the decoration was applied.
+     * @param decoratedDisplayName The display name after the decoration was applied.
+     */
+    public DisplayNameDecoration(final long listVersion, final @Nullable T undecoratedDisplayName, final @Nullable T decoratedDisplayName) {
+        this.listVersion = listVersion;
+        this.undecoratedDisplayName = undecoratedDisplayName;
+        this.decoratedDisplayName = decoratedDisplayName;
+    }
+
+    /**
+     * Checks if the decoration is still current. This is the case if the display name is still the decorated one and the lists have not changed since.
+     *
+     * @param displayName The current display name.
+     * @param listVersion The current list version.
+     * @return Returns {@code true} if the decoration is still current, else {@code false}.
+     */
+    public boolean isCurrent(final @Nullable T displayName, final long listVersion) {
+        return this.listVersion == listVersion && decoratedDisplayName == displayName;
+    }
+
+    /**
+     * Gets the display name without the decoration of the mod. If the display name has been replaced since, the new display name is returned.
+     *
+     * @param displayName The current display name.
+     * @return Returns the display name without the decoration.
+     */
+    public @Nullable T getUndecoratedDisplayName(final @Nullable T displayName) {
+        return decoratedDisplayName == displayName ? undecoratedDisplayName : displayName;
+    }
+}
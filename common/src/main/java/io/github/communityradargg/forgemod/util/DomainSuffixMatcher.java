@@ -0,0 +1,78 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.forgemod.util;
+
+import org.jetbrains.annotations.NotNull;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * An immutable matcher checking if a host name is one of the given domains or a subdomain of them.
+ * Only whole domain labels are matched, so {@code example.net} matches {@code play.example.net} but not {@code myexample.net}.
+ */
+public class DomainSuffixMatcher {
+    private final Set<String> domains;
+
+    /**
+     * Constructs a {@link DomainSuffixMatcher}.
+     *
+     * @param domains The domains to match.
+     */
+    public DomainSuffixMatcher(final @NotNull Collection<String> domains) {
+        final Set<String> normalizedDomains = new HashSet<>();
+        for (final String domain : domains) {
+            normalizedDomains.add(normalize(domain));
+        }
+        this.domains = Collections.unmodifiableSet(normalizedDomains);
+    }
+
+    /**
+     * Checks if the given host name is one of the domains or a subdomain of them. The check is case-insensitive and ignores a trailing dot.
+     *
+     * @param hostName The host name to check.
+     * @return Returns {@code true} if the host name matches, else {@code false}.
+     */
+    public boolean matches(final @NotNull String hostName) {
+        final String normalizedHostName = normalize(hostName);
+        int labelStart = 0;
+        while (labelStart < normalizedHostName.length()) {
+            if (domains.contains(normalizedHostName.substring(labelStart))) {
+                return true;
+            }
+
+            final int nextDot = normalizedHostName.indexOf('.', labelStart);
+            if (nextDot == -1) {
+                return false;
+            }
+            labelStart = nextDot + 1;
+        }
+        return false;
+    }
+
+    /**
+     * Normalizes a host name by removing a trailing dot and converting it to lower case.
+     *
+     * @param hostName The host name.
+     * @return Returns the normalized host name.
+     */
+    private static @NotNull String normalize(final @NotNull String hostName) {
+        final String lowerCaseHostName = hostName.toLowerCase(Locale.ENGLISH);
+        return lowerCaseHostName.endsWith(".") ? lowerCaseHostName.substring(0, lowerCaseHostName.length() - 1) : lowerCaseHostName;
+    }
+}
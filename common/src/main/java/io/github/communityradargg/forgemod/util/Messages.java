@@ -28,11 +28,17 @@ public class Messages {
                     "§e/radar list add <Liste> <Präfix> §7-> Erstellt eine neue Liste.\n" +
                     "§e/radar list prefix <Liste> <Präfix> §7-> Ändert den Präfix einer Liste.\n" +
                     "§e/radar list delete <Liste> §7-> Löscht eine Liste.\n" +
-                    "§e/radar list show <Liste> §7-> Zeigt alle Spieler eine Liste an.\n" +
+                    "§e/radar list show <Liste> [Seite] §7-> Zeigt die Spieler einer Liste seitenweise an.\n" +
+                    "§e/radar list subscribe <Liste> <Präfix> <URL> [Minuten] §7-> Abonniert eine externe Liste.\n" +
+                    "§e/radar list unsubscribe <Liste> §7-> Beendet das Abonnement einer externen Liste.\n" +
                     "§e/radar check <Name> §7-> Prüft ob sich ein Spieler auf einer Liste befindet.\n" +
                     "§e/radar check * §7-> Prüft ob sich einer der Spieler in der Welt auf einer Liste befindet.\n" +
+                    "§e/radar search <Suchbegriff...> §7-> Sucht Einträge nach dem Anfang des Namens und nach Wörtern des Grundes.\n" +
                     "§e/radar player add <Liste> <Name> <Anmerkungen...> §7-> Fügt einen Spieler zu einer Liste hinzu.\n" +
                     "§e/radar player remove <Liste> <Name> §7-> Entfernt einen Spieler von einer Liste.\n" +
+                    "§e/radar import <Liste> <Datei> [Grund...] §7-> Fügt alle Spieler einer CSV- oder JSON-Datei aus dem Ordner 'communityradar' zu einer Liste hinzu.\n" +
+                    "§e/radar export <Liste> <csv|json> §7-> Exportiert eine Liste in den Ordner 'communityradar/exports'.\n" +
+                    "§e/radar player expire <Liste> <Name> <Tage> §7-> Entfernt einen Spieler nach einigen Tagen von einer Liste (-1 = nie).\n" +
                     "§e/radar help §7-> Zeigt diese Hilfeübersicht an.\n" +
                     "§eEntwickler §7-> MrMystery, BlockyTheDev\n" +
                     "§eVersion §7-> §e{code_version}\n" +
@@ -49,6 +55,7 @@ public class Messages {
         public static final String EMPTY = "§7Es wurden§c keine §7Listen gefunden!";
         public static final String PRIVATE = "PRIVAT";
         public static final String PUBLIC = "ÖFFENTLICH";
+        public static final String LOAD_FAILED = "§c[Laden fehlgeschlagen am {time}: {error}]§r";
     }
 
     /**
@@ -64,9 +71,17 @@ public class Messages {
         public static final String SHOW_SUCCESS = "§7Liste: §e{list}§7, Präfix: §e{prefix}§7, Spieler: §e{players}";
         public static final String SHOW_FAILED = "§cFehler beim Anzeigen der Liste. Ist der Name korrekt?";
         public static final String SHOW_EMPTY = "§7Es befindet sich kein Spieler auf dieser Liste.";
+        public static final String SHOW_PAGE = "§7Seite §e{page}§7/§e{pages} §7({count} Spieler). Weitere Seiten mit §e/radar list show {list} <Seite>§7.";
+        public static final String SHOW_PAGE_INVALID = "§cDiese Seite existiert nicht. Die Liste hat §e{pages} §cSeiten.";
 
         public static final String PREFIX_SUCCESS = "§7Der Präfix wurde zu §e{prefix} §7geändert.";
         public static final String PREFIX_FAILED = "§cFehler beim Ändern des Präfixes.";
+
+        public static final String SUBSCRIBE_SUCCESS = "§7Die Liste §e{list} §7wurde§a abonniert§7 und wird alle §e{interval} §7Minuten aktualisiert.";
+        public static final String SUBSCRIBE_FAILED = "§cFehler beim Abonnieren der Liste. Existiert bereits eine Liste mit diesem Namen und ist die URL korrekt?";
+
+        public static final String UNSUBSCRIBE_SUCCESS = "§7Das Abonnement der Liste wurde§c beendet§7!";
+        public static final String UNSUBSCRIBE_FAILED = "§cFehler beim Beenden des Abonnements. Ist der Name korrekt und handelt es sich um eine abonnierte Liste?";
     }
 
     /**
@@ -77,6 +92,9 @@ public class Messages {
         public static final String NOT_FOUND = "§cEs ist kein Spieler online, welcher in einer Liste eingetragen ist.";
         public static final String FAILED = "§7Der angegebene Spieler wurde auf§c keiner §7Liste gefunden.";
 
+        public static final String GROUP = "§7Liste §e{list} §7({prefix}§7): §e{players} §7Spieler";
+        public static final String ALL_FAILED = "§cDie Spieler konnten nicht geprüft werden: {error}";
+
         public static final String FOUND = "§7Der Spieler wurde in einer Liste gefunden:";
         public static final String CHECK_ENTRY =
                 "§7Präfix: §e{prefix}\n" +
@@ -86,6 +104,39 @@ public class Messages {
                         "§7Letzte Aktualisierung: §e{entryUpdateDate}\n";
     }
 
+    /**
+     * Translations related to the search command.
+     */
+    public static class Search {
+        public static final String FOUND = "§7Suchergebnisse für §e{query}§7:";
+        public static final String NOT_FOUND = "§7Es wurden§c keine §7Einträge für §e{query} §7gefunden.";
+        public static final String ENTRY = "§7- {prefix} §e{name} §7({list}): §e{cause}";
+        public static final String MORE = "§7Es gibt weitere Ergebnisse. Verfeinere die Suche, um sie einzugrenzen.";
+        public static final String FAILED = "§cDie Suche ist fehlgeschlagen: {error}";
+    }
+
+    /**
+     * Translations related to the import command.
+     */
+    public static class Import {
+        public static final String LIST_INVALID = "§cDer Import ist fehlgeschlagen. Ist der Name korrekt und handelt es sich um eine private Liste?";
+        public static final String FILE_INVALID = "§cDie Datei §e{file} §cwurde im Ordner 'communityradar' nicht gefunden.";
+        public static final String FAILED = "§cDer Import ist fehlgeschlagen: {error}";
+        public static final String STARTED = "§7Der Import von §e{players} §7Spielern wurde gestartet.";
+        public static final String PROGRESS = "§7Import: §e{processed}§7/§e{players} §7Namen aufgelöst.";
+        public static final String SUCCESS = "§7Import abgeschlossen: §a{added} §7hinzugefügt, §e{skipped} §7bereits auf einer Liste, §c{unresolved} §7nicht gefunden.";
+    }
+
+    /**
+     * Translations related to the export command.
+     */
+    public static class Export {
+        public static final String LIST_INVALID = "§cFehler beim Exportieren der Liste. Ist der Name korrekt?";
+        public static final String FORMAT_INVALID = "§cUnbekanntes Format. Verfügbar sind: §e{formats}";
+        public static final String SUCCESS = "§7Die Liste §e{list} §7wurde mit §e{players} §7Spielern nach §e{file} §aexportiert§7.";
+        public static final String FAILED = "§cDer Export ist fehlgeschlagen: {error}";
+    }
+
     /**
      * Translations related to the player command.
      */
@@ -100,5 +151,10 @@ public class Messages {
         public static final String REMOVE_SUCCESS = "§7Der Spieler wurde aus der Liste§c entfernt§7.";
         public static final String REMOVE_FAILED = "§cDer Spieler konnte nicht entfernt werden. Hast du eine private Liste verwendet?";
         public static final String REMOVE_NOT_IN_LIST = "§7Der Spieler befindet sich auf§c keiner Liste§7.";
+
+        public static final String EXPIRE_SUCCESS = "§7Der Spieler wird in §e{days} §7Tagen von der Liste§c entfernt§7.";
+        public static final String EXPIRE_NEVER = "§7Der Spieler wird nicht mehr automatisch von der Liste entfernt.";
+        public static final String EXPIRE_FAILED = "§cDie Ablaufzeit konnte nicht gesetzt werden. Hast du eine private Liste verwendet und befindet sich der Spieler auf ihr?";
+        public static final String EXPIRE_INVALID_DAYS = "§cDie Anzahl der Tage muss eine ganze Zahl sein.";
     }
 }
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.forgemod.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Holds the state of a name tag prefix applied by the mod to a player entity, to be able to detect whether it is still current.
+ *
+ * @param <T> The version specific text component type.
+ */
+public class NameTagDecoration<T> {
+    private final long listVersion;
+    private final String prefix;
+    private final T prefixComponent;
+
+    /**
+     * Constructs a {@link NameTagDecoration}.
+     *
+     * @param listVersion The list version the decoration was computed for.
+     * @param prefix The raw prefix applied to the player, empty if no prefix was applied.
+     * @param prefixComponent The prefix component added to the player, {@code null} if no prefix was applied.
+     */
+    public NameTagDecoration(final long listVersion, final @NotNull String prefix, final @Nullable T prefixComponent) {
+        this.listVersion = listVersion;
+        this.prefix = prefix;
+        this.prefixComponent = prefixComponent;
+    }
+
+    /**
+     * Checks if the decoration was computed for the given list version.
+     *
+     * @param listVersion The current list version.
+     * @return Returns {@code true} if the decoration is still current, else {@code false}.
+     */
+    public boolean isCurrent(final long listVersion) {
+        return this.listVersion == listVersion;
+    }
+
+    /**
+     * Gets the raw prefix applied to the player.
+     *
+     * @return Returns the raw prefix, empty if no prefix was applied.
+     */
+    public @NotNull String getPrefix() {
+        return prefix;
+    }
+
+    /**
+     * Gets the prefix component added to the player.
+     *
+     * @return Returns the prefix component, {@code null} if no prefix was applied.
+     */
+    public @Nullable T getPrefixComponent() {
+        return prefixComponent;
+    }
+
+    /**
+     * Creates a copy of this decoration for a newer list version, for the case that the applied prefix has not changed.
+     *
+     * @param listVersion The current list version.
+     * @return Returns the decoration for the given list version.
+     */
+    public @NotNull NameTagDecoration<T> withListVersion(final long listVersion) {
+        return new NameTagDecoration<>(listVersion, prefix, prefixComponent);
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.forgemod.util;
+
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.RateLimiter;
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+import java.util.regex.Pattern;
+
+/**
+ * Resolves many player names to UUIDs at once.
+ * <br><br>
+ * Names are served from the {@link PlayerNameUuidCache} and the players of the world first.
+ * The remaining names are resolved with the bulk profile endpoint of the Mojang API, which accepts up to ten names per request.
+ * The requests are rate limited and retried after being throttled by the API.
+ */
+@SuppressWarnings("UnstableApiUsage")
+public class PlayerNameBatchResolver {
+    private static final Logger LOGGER = LogManager.getLogger(PlayerNameBatchResolver.class);
+    private static final String MOJANG_API_BULK_NAMES_TO_UUIDS = "https://api.minecraftservices.com/minecraft/profile/lookup/bulk/byname";
+    private static final Pattern VALID_NAME_PATTERN = Pattern.compile("[A-Za-z0-9_]{1,16}");
+    private static final Pattern UUID_MOJANG_API_PATTERN = Pattern.compile("(\\w{8})(\\w{4})(\\w{4})(\\w{4})(\\w{12})");
+    private static final int BATCH_SIZE = 10;
+    private static final int MAX_ATTEMPTS = 4;
+    private static final int HTTP_TOO_MANY_REQUESTS = 429;
+    private static final long DEFAULT_RETRY_DELAY_MILLIS = TimeUnit.SECONDS.toMillis(10);
+    // the limiter is shared by all imports, so that concurrent imports do not exceed the limit together
+    private final RateLimiter rateLimiter = RateLimiter.create(1.0);
+    private final CommonHandler commonHandler;
+    private final PlayerNameUuidCache playerNameUuidCache;
+
+    /**
+     * Constructs a {@link PlayerNameBatchResolver}.
+     *
+     * @param commonHandler The common handler.
+     * @param playerNameUuidCache The cache the resolved UUIDs are read from and stored in.
+     */
+    public PlayerNameBatchResolver(final @NotNull CommonHandler commonHandler, final @NotNull PlayerNameUuidCache playerNameUuidCache) {
+        this.commonHandler = commonHandler;
+        this.playerNameUuidCache = playerNameUuidCache;
+    }
+
+    /**
+     * Resolves player names to UUIDs. The method blocks until all names are resolved and must not be called on the main thread.
+     *
+     * @param playerNames The player names to resolve. Names differing only in case are resolved once.
+     * @param worldPlayers The players of the world, which was loaded when the resolution was started.
+     * @param progressListener A listener, which is called with the number of processed names after every request.
+     * @return Returns the resolved UUIDs by the lower case player names. Names, which could not be resolved, are missing.
+     */
+    public @NotNull Map<String, UUID> resolve(final @NotNull Collection<String> playerNames, final @NotNull List<PlayerInfo> worldPlayers,
+                                              final @NotNull IntConsumer progressListener) {
+        playerNameUuidCache.putAll(worldPlayers);
+        final Map<String, UUID> resolvedUuids = new HashMap<>();
+        final Set<String> remainingNames = new LinkedHashSet<>();
+        int processedNames = 0;
+        for (final String playerName : playerNames) {
+            final String key = playerName.toLowerCase(Locale.ENGLISH);
+            if (resolvedUuids.containsKey(key) || remainingNames.contains(key)) {
+                continue;
+            }
+
+            final Optional<UUID> cachedUuid = playerNameUuidCache.get(key);
+            if (cachedUuid.isPresent()) {
+                resolvedUuids.put(key, cachedUuid.get());
+                processedNames++;
+            } else if (VALID_NAME_PATTERN.matcher(playerName).matches()) {
+                remainingNames.add(key);
+            } else {
+                // nicked, bedrock and invalid names can only be resolved from the world
+                processedNames++;
+            }
+        }
+        progressListener.accept(processedNames);
+
+        for (final List<String> batch : Lists.partition(new ArrayList<>(remainingNames), BATCH_SIZE)) {
+            final Map<String, UUID> batchUuids = requestBatch(batch);
+            batchUuids.forEach(playerNameUuidCache::put);
+            resolvedUuids.putAll(batchUuids);
+            processedNames += batch.size();
+            progressListener.accept(processedNames);
+        }
+        return resolvedUuids;
+    }
+
+    /**
+     * Requests the UUIDs of a batch of names. Throttled requests are retried with the delay requested by the API.
+     *
+     * @param batch The lower case names of the batch.
+     * @return Returns the resolved UUIDs by the lower case player names.
+     */
+    private @NotNull Map<String, UUID> requestBatch(final @NotNull List<String> batch) {
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            rateLimiter.acquire();
+            HttpURLConnection connection = null;
+            try {
+                connection = (HttpURLConnection) new URL(MOJANG_API_BULK_NAMES_TO_UUIDS).openConnection();
+                connection.setConnectTimeout(3000);
+                connection.setReadTimeout(10000);
+                connection.setRequestMethod("POST");
+                connection.setDoOutput(true);
+                connection.setRequestProperty("Content-Type", "application/json");
+                connection.setRequestProperty("User-Agent", CommonHandler.MOD_ID + "/" + commonHandler.getVersion());
+                try (final OutputStream outputStream = connection.getOutputStream()) {
+                    outputStream.write(new Gson().toJson(batch).getBytes(StandardCharsets.UTF_8));
+                }
+
+                final int responseCode = connection.getResponseCode();
+                if (responseCode == HTTP_TOO_MANY_REQUESTS) {
+                    final long delayMillis = getRetryDelayMillis(connection);
+                    LOGGER.warn("Name resolution was throttled, retrying in {} ms (attempt {} of {})", delayMillis, attempt, MAX_ATTEMPTS);
+                    Thread.sleep(delayMillis);
+                    continue;
+                }
+                if (responseCode != HttpURLConnection.HTTP_OK) {
+                    LOGGER.warn("Requesting data from '{}' resulted in following status code: {}", MOJANG_API_BULK_NAMES_TO_UUIDS, responseCode);
+                    return new HashMap<>();
+                }
+
+                try (final BufferedReader reader = new BufferedReader(new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8))) {
+                    return parseProfiles(new Gson().fromJson(reader, JsonArray.class));
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return new HashMap<>();
+            } catch (final IOException | JsonParseException | IllegalArgumentException | IllegalStateException e) {
+                LOGGER.error("Trying to request data from '{}' resulted in an exception", MOJANG_API_BULK_NAMES_TO_UUIDS, e);
+                return new HashMap<>();
+            } finally {
+                if (connection != null) {
+                    connection.disconnect();
+                }
+            }
+        }
+        return new HashMap<>();
+    }
+
+    /**
+     * Parses the profiles returned by the bulk endpoint.
+     *
+     * @param profiles The profiles.
+     * @return Returns the UUIDs by the lower case player names.
+     */
+    private static @NotNull Map<String, UUID> parseProfiles(final JsonArray profiles) {
+        final Map<String, UUID> uuids = new HashMap<>();
+        if (profiles == null) {
+            return uuids;
+        }
+
+        for (final JsonElement element : profiles) {
+            final JsonObject profile = element.getAsJsonObject();
+            if (profile.has("id") && profile.has("name")) {
+                final UUID uuid = UUID.fromString(UUID_MOJANG_API_PATTERN.matcher(profile.get("id").getAsString()).replaceAll("$1-$2-$3-$4-$5"));
+                uuids.put(profile.get("name").getAsString().toLowerCase(Locale.ENGLISH), uuid);
+            }
+        }
+        return uuids;
+    }
+
+    /**
+     * Gets the delay before a throttled request is retried.
+     *
+     * @param connection The connection of the throttled request.
+     * @return Returns the delay in milliseconds from the Retry-After header or a default delay.
+     */
+    private static long getRetryDelayMillis(final @NotNull HttpURLConnection connection) {
+        final String retryAfter = connection.getHeaderField("Retry-After");
+        if (retryAfter != null) {
+            try {
+                return TimeUnit.SECONDS.toMillis(Math.max(1, Math.min(Long.parseLong(retryAfter.trim()), 120)));
+            } catch (final NumberFormatException ignored) {
+                // an http date is not supported, the default delay is used
+            }
+        }
+        return DEFAULT_RETRY_DELAY_MILLIS;
+    }
+}
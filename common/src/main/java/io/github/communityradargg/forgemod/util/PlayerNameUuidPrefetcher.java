@@ -0,0 +1,78 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.forgemod.util;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.jetbrains.annotations.NotNull;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolves player names to UUIDs in the background with a low priority, so that later lookups can be served from the {@link PlayerNameUuidCache}.
+ */
+@SuppressWarnings("UnstableApiUsage")
+public class PlayerNameUuidPrefetcher {
+    private final Cache<String, Boolean> unresolvableNames = CacheBuilder.newBuilder()
+            .expireAfterWrite(10, TimeUnit.MINUTES)
+            .build();
+    private final Set<String> pendingNames = Collections.newSetFromMap(new ConcurrentHashMap<>());
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+            .setNameFormat(CommonHandler.MOD_ID + "-uuid-prefetch-%d")
+            .setDaemon(true)
+            .setPriority(Thread.MIN_PRIORITY)
+            .build());
+    private final CommonHandler commonHandler;
+    private final PlayerNameUuidCache playerNameUuidCache;
+
+    /**
+     * Constructs a {@link PlayerNameUuidPrefetcher}.
+     *
+     * @param commonHandler The common handler.
+     * @param playerNameUuidCache The cache the resolved UUIDs are stored in.
+     */
+    public PlayerNameUuidPrefetcher(final @NotNull CommonHandler commonHandler, final @NotNull PlayerNameUuidCache playerNameUuidCache) {
+        this.commonHandler = commonHandler;
+        this.playerNameUuidCache = playerNameUuidCache;
+    }
+
+    /**
+     * Schedules the resolution of a player name, if it is not already cached, pending or known to be unresolvable.
+     * Nicked ({@literal ~}) and bedrock ({@literal !}) players are ignored, because they cannot be resolved with the Mojang API.
+     *
+     * @param playerName The player name to prefetch the UUID for.
+     */
+    public void prefetch(final @NotNull String playerName) {
+        if (playerName.startsWith("~") || playerName.startsWith("!")) {
+            return;
+        }
+
+        final String key = playerName.toLowerCase(Locale.ENGLISH);
+        if (playerNameUuidCache.get(key).isPresent() || unresolvableNames.getIfPresent(key) != null || !pendingNames.add(key)) {
+            return;
+        }
+
+        // only names, which the Mojang API does not know, are remembered, names failed for other reasons are requested again on the next prefetch
+        commonHandler.requestUuidForName(playerName, executor, () -> unresolvableNames.put(key, Boolean.TRUE))
+                .whenComplete((uuidOptional, throwable) -> pendingNames.remove(key));
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.forgemod.util;
+
+import org.jetbrains.annotations.NotNull;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * Collects player decoration updates from any thread and drains them on the client thread.
+ * Updates are deduplicated by the player UUID and drained in batches under a time budget per tick, so large list changes are spread over multiple ticks.
+ */
+public class PlayerUpdateScheduler {
+    private static final long TICK_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
+    private static final int BATCH_SIZE = 64;
+    private final Map<UUID, PrefixMatcher> pendingUpdates = new ConcurrentHashMap<>();
+
+    /**
+     * Schedules an update for a player. If an update for the player is already pending, the old prefixes are merged.
+     *
+     * @param uuid The player uuid.
+     * @param oldPrefixes A matcher for the old prefixes.
+     */
+    public void schedule(final @NotNull UUID uuid, final @NotNull PrefixMatcher oldPrefixes) {
+        pendingUpdates.merge(uuid, oldPrefixes, PrefixMatcher::merge);
+    }
+
+    /**
+     * Schedules an update for multiple players.
+     *
+     * @param uuids The player uuids.
+     * @param oldPrefixes A matcher for the old prefixes.
+     */
+    public void scheduleAll(final @NotNull Set<UUID> uuids, final @NotNull PrefixMatcher oldPrefixes) {
+        for (final UUID uuid : uuids) {
+            schedule(uuid, oldPrefixes);
+        }
+    }
+
+    /**
+     * Discards all pending updates.
+     */
+    public void clear() {
+        pendingUpdates.clear();
+    }
+
+    /**
+     * Drains pending updates in batches until there are no updates left or the time budget of the tick is used up.
+     * This method should only be called on the client thread.
+     *
+     * @param updater The consumer applying a batch of updates with the merged old prefixes of the batch.
+     */
+    public void drain(final @NotNull BiConsumer<Set<UUID>, PrefixMatcher> updater) {
+        if (pendingUpdates.isEmpty()) {
+            return;
+        }
+
+        final long deadline = System.nanoTime() + TICK_BUDGET_NANOS;
+        final Iterator<Map.Entry<UUID, PrefixMatcher>> iterator = pendingUpdates.entrySet().iterator();
+        while (iterator.hasNext() && System.nanoTime() - deadline < 0) {
+            final Set<UUID> batch = new HashSet<>();
+            PrefixMatcher batchOldPrefixes = null;
+            while (iterator.hasNext() && batch.size() < BATCH_SIZE) {
+                final Map.Entry<UUID, PrefixMatcher> entry = iterator.next();
+                // only remove the entry if it was not merged concurrently, else it will be handled in a later batch
+                if (!pendingUpdates.remove(entry.getKey(), entry.getValue())) {
+                    continue;
+                }
+
+                batch.add(entry.getKey());
+                batchOldPrefixes = batchOldPrefixes == null ? entry.getValue() : batchOldPrefixes.merge(entry.getValue());
+            }
+
+            if (batchOldPrefixes != null) {
+                updater.accept(batch, batchOldPrefixes);
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.forgemod.util;
+
+import org.jetbrains.annotations.NotNull;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * An immutable matcher for prefixes. The prefixes are unformatted once on construction, so a match is a single hash lookup.
+ */
+public class PrefixMatcher {
+    private final Set<String> prefixes;
+    private final Set<String> unformattedPrefixes;
+
+    /**
+     * Constructs a {@link PrefixMatcher}.
+     *
+     * @param prefixes The raw prefixes.
+     * @param unformatter The function to unformat a raw prefix for comparison.
+     */
+    public PrefixMatcher(final @NotNull Set<String> prefixes, final @NotNull Function<String, String> unformatter) {
+        final Set<String> unformattedPrefixes = new HashSet<>();
+        for (final String prefix : prefixes) {
+            unformattedPrefixes.add(unformatter.apply(prefix));
+        }
+
+        this.prefixes = prefixes;
+        this.unformattedPrefixes = Collections.unmodifiableSet(unformattedPrefixes);
+    }
+
+    /**
+     * Constructs a {@link PrefixMatcher} from already unformatted prefixes.
+     *
+     * @param prefixes The raw prefixes.
+     * @param unformattedPrefixes The unformatted prefixes.
+     */
+    private PrefixMatcher(final @NotNull Set<String> prefixes, final @NotNull Set<String> unformattedPrefixes) {
+        this.prefixes = Collections.unmodifiableSet(prefixes);
+        this.unformattedPrefixes = Collections.unmodifiableSet(unformattedPrefixes);
+    }
+
+    /**
+     * Gets the raw prefixes this matcher was compiled from.
+     *
+     * @return Returns the raw prefixes.
+     */
+    public @NotNull Set<String> getPrefixes() {
+        return prefixes;
+    }
+
+    /**
+     * Checks if the given unformatted prefix candidate matches any of the prefixes.
+     *
+     * @param prefixCandidate The unformatted prefix candidate.
+     * @return Returns {@code true} if there is a match, else {@code false}.
+     */
+    public boolean matches(final @NotNull String prefixCandidate) {
+        return unformattedPrefixes.contains(prefixCandidate);
+    }
+
+    /**
+     * Merges this matcher with another one. The merged matcher matches all prefixes of both matchers.
+     *
+     * @param other The other matcher.
+     * @return Returns the merged matcher, or one of the matchers itself if it already contains all prefixes of the other one.
+     */
+    public @NotNull PrefixMatcher merge(final @NotNull PrefixMatcher other) {
+        if (this == other || prefixes.containsAll(other.prefixes)) {
+            return this;
+        }
+
+        if (other.prefixes.containsAll(prefixes)) {
+            return other;
+        }
+
+        final Set<String> mergedPrefixes = new HashSet<>(prefixes);
+        mergedPrefixes.addAll(other.prefixes);
+        final Set<String> mergedUnformattedPrefixes = new HashSet<>(unformattedPrefixes);
+        mergedUnformattedPrefixes.addAll(other.unformattedPrefixes);
+        return new PrefixMatcher(mergedPrefixes, mergedUnformattedPrefixes);
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.forgemod.util;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.annotations.SerializedName;
+import io.github.communityradargg.forgemod.list.ListFileFormat;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A class representing the configuration of the mod, which is stored as json file in the mod directory.
+ */
+public class RadarConfig {
+    private static final Logger LOGGER = LogManager.getLogger(RadarConfig.class);
+    private static final Gson GSON = new GsonBuilder()
+            .setPrettyPrinting()
+            .create();
+    @SerializedName("serverDomains")
+    private List<String> serverDomains = new ArrayList<>(Arrays.asList("griefergames.net", "griefergames.de", "griefergames.live"));
+    @SerializedName("lazyPrivateLists")
+    private boolean lazyPrivateLists = false;
+    @SerializedName("privateListFormat")
+    private ListFileFormat privateListFormat = ListFileFormat.JSON;
+
+    /**
+     * Loads the config from a file. Missing values are filled with their defaults and the file is written back, so that it contains all values.
+     *
+     * @param file The config file.
+     * @return Returns the loaded config, or the default config if the file does not exist or could not be read.
+     */
+    public static @NotNull RadarConfig load(final @NotNull File file) {
+        RadarConfig config = null;
+        if (file.exists()) {
+            try (final FileReader reader = new FileReader(file)) {
+                config = GSON.fromJson(reader, RadarConfig.class);
+            } catch (final IOException | JsonIOException | JsonSyntaxException e) {
+                LOGGER.error("Could not load config, using the default config", e);
+            }
+        }
+
+        if (config == null) {
+            config = new RadarConfig();
+        }
+
+        if (config.serverDomains == null) {
+            config.serverDomains = new RadarConfig().serverDomains;
+        }
+        if (config.privateListFormat == null) {
+            config.privateListFormat = ListFileFormat.JSON;
+        }
+        config.save(file);
+        return config;
+    }
+
+    /**
+     * Saves the config to a file.
+     *
+     * @param file The config file.
+     */
+    public void save(final @NotNull File file) {
+        final File parentFile = file.getParentFile();
+        if (parentFile != null && !parentFile.exists() && !parentFile.mkdirs()) {
+            LOGGER.error("Could not create directory: {}", parentFile);
+            return;
+        }
+
+        try (final FileWriter writer = new FileWriter(file)) {
+            writer.write(GSON.toJson(this));
+        } catch (final IOException e) {
+            LOGGER.error("Could not save config", e);
+        }
+    }
+
+    /**
+     * Gets the domains of the server the mod is active on. Subdomains of them are included.
+     *
+     * @return Returns the server domains.
+     */
+    public @NotNull List<String> getServerDomains() {
+        return serverDomains;
+    }
+
+    /**
+     * Gets the format private lists are saved in. Lists in another format are converted on their next save.
+     *
+     * @return Returns the private list format.
+     */
+    public @NotNull ListFileFormat getPrivateListFormat() {
+        return privateListFormat;
+    }
+
+    /**
+     * Gets, whether only the header of the private lists is loaded at startup and their entries are loaded on the first lookup.
+     *
+     * @return Returns, whether the private lists are loaded lazily.
+     */
+    public boolean isLazyPrivateLists() {
+        return lazyPrivateLists;
+    }
+}
@@ -53,28 +53,22 @@ public interface VersionBridge {
     @NotNull List<@NotNull PlayerInfo> getWorldPlayers();
 
     /**
-     * Updates a player by its UUID.
+     * Updates all online players, whose UUID is in the given set. The online players should only be iterated once.
+     * This method is only called on the client thread.
      *
      * @param commonHandler The common handler.
-     * @param uuid The player UUID.
-     * @param oldPrefixes A Set with old prefixes.
+     * @param uuids The player UUIDs.
+     * @param oldPrefixes A matcher for the old prefixes.
      */
-    void updatePlayerByUuid(final @NotNull CommonHandler commonHandler, final @NotNull UUID uuid, final @NotNull Set<@NotNull String> oldPrefixes);
+    void updatePlayersByUuids(final @NotNull CommonHandler commonHandler, final @NotNull Set<@NotNull UUID> uuids, final @NotNull PrefixMatcher oldPrefixes);
 
     /**
-     * Updates the prefixes for all players.
+     * Updates the prefixes for all players in the tab list, whose prefix is not current anymore.
+     * Players, whose prefix is still current, should not be touched.
      *
      * @param commonHandler The common handler.
-     * @param oldPrefixes A Set with old prefixes.
      */
-    void updatePrefixes(final @NotNull CommonHandler commonHandler, final @NotNull Set<String> oldPrefixes);
-
-    /**
-     * Checks is the player list key is pressed.
-     *
-     * @return Returns {@code true} if the key is pressed, else {@code false}.
-     */
-    boolean isPlayerListKeyPressed();
+    void updatePrefixes(final @NotNull CommonHandler commonHandler);
 
     /**
      * Wraps a given text in the version specific text component and unformat it for later possible comparison.
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.forgemod.list;
+
+import org.junit.jupiter.api.Test;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Tests the search index with single changes in its delta against an index built from the changed entries.
+ */
+class ListSearchIndexTest {
+    private static final String[] SYLLABLES = {"ka", "ro", "mi", "te", "lu", "san"};
+    private static final String[] CAUSES = {"Scammer", "Scam beim Handel", "Trusted Trader", "Betrug mit Items", null};
+    private static final List<String> QUERIES = Arrays.asList("k", "ka", "karo", "ro", "mi", "s", "scam", "handel", "trusted", "betrug items", "lu te");
+
+    /**
+     * Random single changes are found like in an index built from scratch.
+     */
+    @Test
+    void searchesChangesLikeABuiltIndex() {
+        final Random random = new Random(42);
+        final Map<UUID, RadarListEntry> entries = new RadarListEntryStore();
+        for (int i = 0; i < 100; i++) {
+            final RadarListEntry entry = randomEntry(random, UUID.randomUUID());
+            entries.put(entry.uuid(), entry);
+        }
+
+        ListSearchIndex index = new ListSearchIndex(new RadarListEntryStore(entries));
+        for (int i = 0; i < 200; i++) {
+            final List<UUID> uuids = new ArrayList<>(entries.keySet());
+            if (random.nextBoolean()) {
+                // new entries and replaced entries of existing players
+                final UUID uuid = random.nextBoolean() ? UUID.randomUUID() : uuids.get(random.nextInt(uuids.size()));
+                final RadarListEntry entry = randomEntry(random, uuid);
+                entries.put(uuid, entry);
+                index = index.withChanges(Collections.singletonList(entry), Collections.emptyList());
+            } else {
+                final UUID uuid = uuids.get(random.nextInt(uuids.size()));
+                entries.remove(uuid);
+                index = index.withChanges(Collections.emptyList(), Collections.singletonList(uuid));
+            }
+
+            final ListSearchIndex builtIndex = new ListSearchIndex(new RadarListEntryStore(entries));
+            for (final String query : QUERIES) {
+                final List<String> queryTokens = new ArrayList<>(ListSearchIndex.tokenize(query));
+                assertEquals(builtIndex.search(queryTokens), index.search(queryTokens), query);
+            }
+        }
+    }
+
+    /**
+     * Removed entries are not returned anymore and replaced entries are returned in their new state.
+     */
+    @Test
+    void returnsChangedEntries() {
+        final UUID removedUuid = UUID.randomUUID();
+        final UUID replacedUuid = UUID.randomUUID();
+        final Map<UUID, RadarListEntry> entries = new RadarListEntryStore();
+        entries.put(removedUuid, new RadarListEntry(removedUuid, "Removed", "Scammer", LocalDateTime.now()));
+        entries.put(replacedUuid, new RadarListEntry(replacedUuid, "Replaced", "Scammer", LocalDateTime.now()));
+
+        final ListSearchIndex index = new ListSearchIndex(entries)
+                .withChanges(Collections.singletonList(new RadarListEntry(replacedUuid, "Replaced", "Trusted", LocalDateTime.now())), Collections.singletonList(removedUuid));
+
+        assertNull(index.getEntry(removedUuid));
+        assertEquals("Trusted", index.getEntry(replacedUuid).cause());
+        assertEquals(Collections.emptyMap(), index.search(Collections.singletonList("scammer")));
+        // the replaced entry is both added and hides its built version
+        assertEquals(3, index.getChangeCount());
+    }
+
+    /**
+     * Creates an entry with a random name and cause.
+     *
+     * @param random The random generator.
+     * @param uuid The uuid of the entry.
+     * @return Returns the entry.
+     */
+    private static RadarListEntry randomEntry(final Random random, final UUID uuid) {
+        final StringBuilder name = new StringBuilder();
+        for (int i = 0, length = 1 + random.nextInt(3); i < length; i++) {
+            name.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        return new RadarListEntry(uuid, name.toString(), CAUSES[random.nextInt(CAUSES.length)], LocalDateTime.now());
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.forgemod.list;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the loading of public lists with manifests, patches and conditional requests against a local static file server.
+ */
+class PublicListSyncTest {
+    private static final UUID FIRST_UUID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID SECOND_UUID = UUID.fromString("00000000-0000-0000-0000-000000000002");
+    private static final UUID THIRD_UUID = UUID.fromString("00000000-0000-0000-0000-000000000003");
+    private final Map<String, byte[]> files = new ConcurrentHashMap<>();
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+    private final List<Integer> statusCodes = new CopyOnWriteArrayList<>();
+    private HttpServer server;
+    private String baseUrl;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+        baseUrl = "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/";
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    /**
+     * A list with a known version is updated with the chain of patches announced by the manifest instead of a full download.
+     */
+    @Test
+    void appliesPatchChain() {
+        final RadarList list = createList(true);
+        files.put("list.json", entries(FIRST_UUID, SECOND_UUID));
+        files.put("manifest.json", json("{'version':1,'entryCount':2}"));
+        assertTrue(list.load());
+
+        // the full list is changed as well, so that a full download would be visible
+        files.put("list.json", entries(THIRD_UUID));
+        files.put("patch-1-2.json", json("{'from':1,'to':2,'added':[" + entry(THIRD_UUID) + "]}"));
+        files.put("patch-2-3.json", json("{'from':2,'to':3,'removed':['" + FIRST_UUID + "']}"));
+        files.put("manifest.json", json("{'version':3,'entryCount':2,'patches':["
+                + "{'from':1,'to':2,'url':'patch-1-2.json'},{'from':2,'to':3,'url':'patch-2-3.json'}]}"));
+        requests.clear();
+        assertTrue(list.load());
+
+        assertEquals(new HashSet<>(Arrays.asList(SECOND_UUID, THIRD_UUID)), list.getPlayerMap().keySet());
+        assertEquals(Arrays.asList("manifest.json", "patch-1-2.json", "patch-2-3.json"), requests);
+    }
+
+    /**
+     * A gap in the chain of patches falls back to a full download of the list.
+     */
+    @Test
+    void fallsBackToFullDownloadOnGap() {
+        final RadarList list = createList(true);
+        files.put("list.json", entries(FIRST_UUID, SECOND_UUID));
+        files.put("manifest.json", json("{'version':1,'entryCount':2}"));
+        assertTrue(list.load());
+
+        // the patch from version 1 to 2 is missing
+        files.put("list.json", entries(SECOND_UUID, THIRD_UUID));
+        files.put("patch-2-3.json", json("{'from':2,'to':3,'removed':['" + FIRST_UUID + "']}"));
+        files.put("manifest.json", json("{'version':3,'entryCount':2,'patches':[{'from':2,'to':3,'url':'patch-2-3.json'}]}"));
+        requests.clear();
+        assertTrue(list.load());
+
+        assertEquals(new HashSet<>(Arrays.asList(SECOND_UUID, THIRD_UUID)), list.getPlayerMap().keySet());
+        assertEquals(Arrays.asList("manifest.json", "list.json"), requests);
+    }
+
+    /**
+     * An unchanged list is answered with 304 Not Modified and keeps its entries.
+     */
+    @Test
+    void keepsEntriesWhenNotModified() {
+        final RadarList list = createList(false);
+        files.put("list.json", entries(FIRST_UUID, SECOND_UUID));
+        assertTrue(list.load());
+
+        statusCodes.clear();
+        assertFalse(list.load());
+
+        assertEquals(Arrays.asList(HttpURLConnection.HTTP_NOT_MODIFIED), statusCodes);
+        assertEquals(new HashSet<>(Arrays.asList(FIRST_UUID, SECOND_UUID)), list.getPlayerMap().keySet());
+    }
+
+    /**
+     * Creates a public list served by the local server. Loading a public list does not need a common handler.
+     *
+     * @param withManifest Whether the list has a manifest.
+     * @return Returns the created list.
+     */
+    private RadarList createList(final boolean withManifest) {
+        final RadarList list = new RadarList(null, "test", "&7[Test]", baseUrl + "list.json", RadarListVisibility.PUBLIC);
+        if (withManifest) {
+            list.setManifestUrl(baseUrl + "manifest.json");
+        }
+        return list;
+    }
+
+    /**
+     * Serves the files like a static file server, which answers conditional requests with the entity tag of the content.
+     *
+     * @param exchange The exchange.
+     * @throws IOException If the response could not be sent.
+     */
+    private void handle(final HttpExchange exchange) throws IOException {
+        final String path = exchange.getRequestURI().getPath().substring(1);
+        requests.add(path);
+        final byte[] content = files.get(path);
+        if (content == null) {
+            respond(exchange, HttpURLConnection.HTTP_NOT_FOUND, null);
+            return;
+        }
+
+        final String entityTag = "\"" + Arrays.hashCode(content) + "\"";
+        exchange.getResponseHeaders().set("ETag", entityTag);
+        if (entityTag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+            respond(exchange, HttpURLConnection.HTTP_NOT_MODIFIED, null);
+            return;
+        }
+        respond(exchange, HttpURLConnection.HTTP_OK, content);
+    }
+
+    /**
+     * Sends a response and closes the exchange.
+     *
+     * @param exchange The exchange.
+     * @param statusCode The status code.
+     * @param content The body or {@code null}, if the response has no body.
+     * @throws IOException If the response could not be sent.
+     */
+    private void respond(final HttpExchange exchange, final int statusCode, final byte[] content) throws IOException {
+        statusCodes.add(statusCode);
+        exchange.sendResponseHeaders(statusCode, content == null ? -1 : content.length);
+        if (content != null) {
+            try (final OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(content);
+            }
+        }
+        exchange.close();
+    }
+
+    /**
+     * Creates the body of a full list.
+     *
+     * @param uuids The uuids of the entries.
+     * @return Returns the body.
+     */
+    private static byte[] entries(final UUID... uuids) {
+        final StringBuilder builder = new StringBuilder("[");
+        for (final UUID uuid : uuids) {
+            builder.append(builder.length() > 1 ? "," : "").append(entry(uuid));
+        }
+        return json(builder.append("]").toString());
+    }
+
+    /**
+     * Creates a list entry in JSON.
+     *
+     * @param uuid The uuid of the entry.
+     * @return Returns the entry.
+     */
+    private static String entry(final UUID uuid) {
+        return "{'uuid':'" + uuid + "','name':'Player" + uuid.getLeastSignificantBits() + "','cause':'Test','entryCreatedAt':'2024-01-01T12:00:00'}";
+    }
+
+    /**
+     * Converts JSON written with single quotes for readability into its bytes.
+     *
+     * @param text The JSON text with single quotes.
+     * @return Returns the JSON bytes.
+     */
+    private static byte[] json(final String text) {
+        return text.replace('\'', '"').getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.forgemod.list.adapters;
+
+import org.junit.jupiter.api.Test;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests the hand-written date time codec against {@link DateTimeFormatter#ISO_DATE_TIME}.
+ */
+class GsonLocalDateTimeAdapterTest {
+    private static final int SAMPLES = 100_000;
+    private static final long MIN_EPOCH_SECOND = LocalDateTime.of(-2000, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+    private static final long MAX_EPOCH_SECOND = LocalDateTime.of(12000, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+
+    /**
+     * Random date times are formatted like the general formatter and parsed back to the same value.
+     */
+    @Test
+    void roundTripsRandomDateTimes() {
+        final Random random = new Random(4711);
+        for (int i = 0; i < SAMPLES; i++) {
+            final LocalDateTime localDateTime = randomDateTime(random);
+            final String expectedText = localDateTime.format(DateTimeFormatter.ISO_DATE_TIME);
+
+            assertEquals(expectedText, GsonLocalDateTimeAdapter.format(localDateTime));
+            assertEquals(localDateTime, GsonLocalDateTimeAdapter.parse(expectedText));
+        }
+    }
+
+    /**
+     * Texts in other layouts, which are accepted by the general parser, are still parsed.
+     */
+    @Test
+    void parsesOtherLayouts() {
+        assertEquals(LocalDateTime.of(2024, 5, 1, 12, 30), GsonLocalDateTimeAdapter.parse("2024-05-01T12:30"));
+        assertEquals(LocalDateTime.of(2024, 5, 1, 12, 30, 15), GsonLocalDateTimeAdapter.parse("2024-05-01T12:30:15+02:00"));
+        assertEquals(LocalDateTime.of(12024, 5, 1, 12, 30, 15), GsonLocalDateTimeAdapter.parse("+12024-05-01T12:30:15"));
+    }
+
+    /**
+     * Creates a random date time. Most samples have a fraction truncated to seconds, milliseconds or microseconds like the clock values written by the mod.
+     *
+     * @param random The random generator.
+     * @return Returns the date time.
+     */
+    private static LocalDateTime randomDateTime(final Random random) {
+        final long epochSecond = MIN_EPOCH_SECOND + (long) (random.nextDouble() * (MAX_EPOCH_SECOND - MIN_EPOCH_SECOND));
+        final LocalDateTime localDateTime = LocalDateTime.ofEpochSecond(epochSecond, random.nextInt(1_000_000_000), ZoneOffset.UTC);
+        switch (random.nextInt(4)) {
+            case 0:
+                return localDateTime.truncatedTo(ChronoUnit.SECONDS);
+            case 1:
+                return localDateTime.truncatedTo(ChronoUnit.MILLIS);
+            case 2:
+                return localDateTime.truncatedTo(ChronoUnit.MICROS);
+            default:
+                return localDateTime;
+        }
+    }
+}
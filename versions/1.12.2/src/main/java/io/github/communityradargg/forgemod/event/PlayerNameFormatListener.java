@@ -46,6 +46,6 @@ public class PlayerNameFormatListener {
         if (!commonHandler.isOnGrieferGames()) {
             return;
         }
-        Utils.updatePlayerNameTag(commonHandler, event.getEntityPlayer(), commonHandler.getListManager().getExistingPrefixes());
+        Utils.updatePlayerNameTag(commonHandler, event.getEntityPlayer(), commonHandler.getPrefixMatcher());
     }
 }
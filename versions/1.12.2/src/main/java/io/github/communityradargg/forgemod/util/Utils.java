@@ -15,6 +15,7 @@
  */
 package io.github.communityradargg.forgemod.util;
 
+import com.google.common.collect.MapMaker;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.network.NetHandlerPlayClient;
 import net.minecraft.client.network.NetworkPlayerInfo;
@@ -24,7 +25,7 @@ import net.minecraft.util.text.TextComponentString;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Optional;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
@@ -32,107 +33,138 @@ import java.util.UUID;
  * A class with some util methods.
  */
 public class Utils {
+    // weak keys of the map maker are compared by identity, entities compare by their reusable entity id otherwise
+    private static final Map<NetworkPlayerInfo, DisplayNameDecoration<ITextComponent>> TAB_LIST_DECORATIONS = new MapMaker().weakKeys().makeMap();
+    private static final Map<EntityPlayer, NameTagDecoration<ITextComponent>> NAME_TAG_DECORATIONS = new MapMaker().weakKeys().makeMap();
+
     /**
-     * Gets a {@link NetworkPlayerInfo} by the uuid of a player.
+     * Updates the display names and name tags of all online players, whose uuid is in the given set.
+     * The online players are only iterated once, so the costs do not depend on the number of given uuids.
      *
-     * @param uuid The uuid to get the network player info for.
-     * @return Returns an optional with the network player info of an online player to the uuid.
+     * @param commonHandler The common handler.
+     * @param uuids The uuids to update the corresponding players.
+     * @param oldPrefixes A matcher for the old prefixes that need to be removed before adding the new one.
      */
-    private static @NotNull Optional<NetworkPlayerInfo> getNetworkPlayerInfoByUuid(final @NotNull UUID uuid) {
-        final NetHandlerPlayClient connection = Minecraft.getMinecraft().getConnection();
-        if (connection == null) {
-            return Optional.empty();
+    public static void updatePlayersByUuids(final @NotNull CommonHandler commonHandler, final @NotNull Set<UUID> uuids, final @NotNull PrefixMatcher oldPrefixes) {
+        if (uuids.isEmpty()) {
+            return;
         }
-        return connection.getPlayerInfoMap().stream()
-                .filter(player -> uuid.equals(player.getGameProfile().getId()))
-                .findFirst();
-    }
 
-    /**
-     * Gets a {@link EntityPlayer} by the uuid of a player.
-     *
-     * @param uuid The uuid to get the entity player for.
-     * @return Returns an optional with the entity player to the uuid.
-     */
-    private static @NotNull Optional<EntityPlayer> getEntityPlayerByUuid(final @NotNull UUID uuid) {
         final World world = Minecraft.getMinecraft().world;
-        if (world == null) {
-            return Optional.empty();
+        if (world != null) {
+            for (final EntityPlayer player : world.playerEntities) {
+                if (uuids.contains(player.getGameProfile().getId())) {
+                    updatePlayerNameTag(commonHandler, player, oldPrefixes);
+                }
+            }
         }
 
-        return world.playerEntities.stream()
-                .filter(player -> uuid.equals(player.getGameProfile().getId()))
-                .findFirst();
-    }
+        final NetHandlerPlayClient connection = Minecraft.getMinecraft().getConnection();
+        if (connection == null) {
+            return;
+        }
 
-    /**
-     * Updates a player display name and name tag by its uuid.
-     *
-     * @param commonHandler The common handler.
-     * @param uuid The uuid to update the corresponding player.
-     */
-    public static void updatePlayerByUuid(final @NotNull CommonHandler commonHandler, final @NotNull UUID uuid, final @NotNull Set<String> oldPrefixes) {
-        getEntityPlayerByUuid(uuid).ifPresent(player -> updatePlayerNameTag(commonHandler, player, oldPrefixes));
-        getNetworkPlayerInfoByUuid(uuid).ifPresent(networkPlayerInfo -> updatePlayerPrefix(commonHandler, networkPlayerInfo, oldPrefixes));
+        final long listVersion = commonHandler.getListManager().getListVersion();
+        if (uuids.size() < connection.getPlayerInfoMap().size()) {
+            // fewer uuids than online players, use the uuid keyed player info map of the connection
+            for (final UUID uuid : uuids) {
+                final NetworkPlayerInfo player = connection.getPlayerInfo(uuid);
+                if (player != null) {
+                    updatePlayerPrefix(commonHandler, player, listVersion);
+                }
+            }
+            return;
+        }
+
+        for (final NetworkPlayerInfo player : connection.getPlayerInfoMap()) {
+            if (uuids.contains(player.getGameProfile().getId())) {
+                updatePlayerPrefix(commonHandler, player, listVersion);
+            }
+        }
     }
 
     /**
      * Handles updating the name tag of a player entity.
+     * The prefix applied by the mod is remembered, so that nothing is done if the lists have not changed since or the prefix of the player is still the same.
      *
      * @param commonHandler The common handler.
      * @param player The player entity to update the name tag.
-     * @param oldPrefixes The old prefixes that need to be removed before adding the new one.
+     * @param oldPrefixes A matcher for the old prefixes that need to be removed before adding the new one.
      */
-    public static void updatePlayerNameTag(final @NotNull CommonHandler commonHandler, final @NotNull EntityPlayer player, final @NotNull Set<String> oldPrefixes) {
-        player.getPrefixes().removeIf(prefix -> commonHandler.isPrefixMatching(prefix.getUnformattedText(), oldPrefixes));
+    public static void updatePlayerNameTag(final @NotNull CommonHandler commonHandler, final @NotNull EntityPlayer player, final @NotNull PrefixMatcher oldPrefixes) {
+        final long listVersion = commonHandler.getListManager().getListVersion();
+        final NameTagDecoration<ITextComponent> decoration = NAME_TAG_DECORATIONS.get(player);
+        if (decoration != null && decoration.isCurrent(listVersion)) {
+            return;
+        }
+
         final String addonPrefix = commonHandler.getListManager()
                 .getPrefix(player.getGameProfile().getId());
+        if (decoration != null && decoration.getPrefix().equals(addonPrefix)
+                && (decoration.getPrefixComponent() == null || player.getPrefixes().contains(decoration.getPrefixComponent()))) {
+            // the applied prefix is still the correct one
+            NAME_TAG_DECORATIONS.put(player, decoration.withListVersion(listVersion));
+            return;
+        }
 
+        final ITextComponent oldPrefixComponent = decoration == null ? null : decoration.getPrefixComponent();
+        player.getPrefixes().removeIf(prefix -> prefix == oldPrefixComponent || oldPrefixes.matches(prefix.getUnformattedText()));
+        ITextComponent prefixComponent = null;
         if (!addonPrefix.isEmpty()) {
-            player.addPrefix(new TextComponentString(commonHandler.formatPrefix(addonPrefix)));
+            prefixComponent = new TextComponentString(commonHandler.formatPrefix(addonPrefix));
+            player.addPrefix(prefixComponent);
         }
+        NAME_TAG_DECORATIONS.put(player, new NameTagDecoration<>(listVersion, addonPrefix, prefixComponent));
     }
 
     /**
-     * Handles updating the player prefixes in the display name.
+     * Handles updating the player prefixes in the display name of all players in the tab list, whose prefix is not current anymore.
      *
      * @param commonHandler The common handler.
-     * @param oldPrefixes The old prefixes that need to be removed before adding the new one.
      */
-    public static void updatePrefixes(final @NotNull CommonHandler commonHandler, final @NotNull Set<String> oldPrefixes) {
+    public static void updatePrefixes(final @NotNull CommonHandler commonHandler) {
         final NetHandlerPlayClient connection = Minecraft.getMinecraft().getConnection();
         if (connection == null) {
             return;
         }
-        connection.getPlayerInfoMap().forEach(player -> updatePlayerPrefix(commonHandler, player, oldPrefixes));
+
+        final long listVersion = commonHandler.getListManager().getListVersion();
+        for (final NetworkPlayerInfo player : connection.getPlayerInfoMap()) {
+            updatePlayerPrefix(commonHandler, player, listVersion);
+        }
     }
 
     /**
      * Handles updating the player prefix in the display name of a single player.
+     * The decoration applied by the mod is remembered, so that the player is only touched if the lists or the display name have changed since.
      *
      * @param commonHandler The common handler.
      * @param player The player to update.
-     * @param oldPrefixes The old prefixes that need to be removed before adding the new one.
+     * @param listVersion The current list version.
      */
-    private static void updatePlayerPrefix(final @NotNull CommonHandler commonHandler, final @NotNull NetworkPlayerInfo player, final @NotNull Set<String> oldPrefixes) {
-        if (player.getGameProfile().getId() == null || player.getDisplayName() == null) {
+    private static void updatePlayerPrefix(final @NotNull CommonHandler commonHandler, final @NotNull NetworkPlayerInfo player, final long listVersion) {
+        final ITextComponent displayName = player.getDisplayName();
+        final DisplayNameDecoration<ITextComponent> decoration = TAB_LIST_DECORATIONS.get(player);
+        if (decoration != null && decoration.isCurrent(displayName, listVersion)) {
             return;
         }
 
-        final ITextComponent displayName = player.getDisplayName();
-        ITextComponent newDisplayName = displayName;
-        for (final String prefix : oldPrefixes) {
-            if (!displayName.getUnformattedText().startsWith(commonHandler.unformatPrefixForCompare(prefix))) {
-                continue;
-            }
-            newDisplayName = displayName.getSiblings().get(displayName.getSiblings().size() - 1);
+        final ITextComponent undecoratedDisplayName = decoration == null ? displayName : decoration.getUndecoratedDisplayName(displayName);
+        if (player.getGameProfile().getId() == null || undecoratedDisplayName == null) {
+            TAB_LIST_DECORATIONS.put(player, new DisplayNameDecoration<>(listVersion, undecoratedDisplayName, displayName));
+            return;
         }
 
+        ITextComponent newDisplayName = undecoratedDisplayName;
         final String addonPrefix = commonHandler.getListManager()
                 .getPrefix(player.getGameProfile().getId());
         if (!addonPrefix.isEmpty()) {
-            newDisplayName = new TextComponentString(commonHandler.formatPrefix(addonPrefix)).appendSibling(newDisplayName);
+            newDisplayName = new TextComponentString(commonHandler.formatPrefix(addonPrefix)).appendSibling(undecoratedDisplayName);
+        }
+
+        if (newDisplayName != displayName) {
+            player.setDisplayName(newDisplayName);
         }
-        player.setDisplayName(newDisplayName);
+        TAB_LIST_DECORATIONS.put(player, new DisplayNameDecoration<>(listVersion, undecoratedDisplayName, newDisplayName));
     }
 }
@@ -17,8 +17,8 @@ package io.github.communityradargg.forgemod;
 
 import io.github.communityradargg.forgemod.command.RadarCommand;
 import io.github.communityradargg.forgemod.event.ClientChatReceivedListener;
+import io.github.communityradargg.forgemod.event.ClientTickListener;
 import io.github.communityradargg.forgemod.event.ClientConnectionDisconnectListener;
-import io.github.communityradargg.forgemod.event.KeyInputListener;
 import io.github.communityradargg.forgemod.event.PlayerNameFormatListener;
 import io.github.communityradargg.forgemod.util.CommonHandler;
 import io.github.communityradargg.forgemod.util.VersionBridgeImpl;
@@ -59,7 +59,7 @@ public class CommunityRadarMod {
     private void registerEvents() {
         MinecraftForge.EVENT_BUS.register(new ClientChatReceivedListener(commonHandler));
         MinecraftForge.EVENT_BUS.register(new PlayerNameFormatListener(commonHandler));
-        MinecraftForge.EVENT_BUS.register(new KeyInputListener(commonHandler));
+        MinecraftForge.EVENT_BUS.register(new ClientTickListener(commonHandler));
         MinecraftForge.EVENT_BUS.register(new ClientConnectionDisconnectListener(commonHandler));
     }
 
@@ -21,6 +21,8 @@ import net.minecraftforge.client.event.ClientChatReceivedEvent;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Optional;
+import java.util.UUID;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -60,17 +62,21 @@ public class ClientChatReceivedListener {
         }
 
         final String playerName = matcher.group(1);
+        while (matcher.find()) {
+            // further players in the message, like the receiver of a private message or payment
+            commonHandler.prefetchUuidByPlayerName(matcher.group(1));
+        }
+
         if (playerName.startsWith("~")) {
             // nicked player
             return;
         }
 
-        commonHandler.getUuidByPlayerName(commonHandler, playerName).thenAccept(uuid -> {
-            if (uuid.isPresent() && commonHandler.getListManager().isInList(uuid.get())) {
-                event.message = new ChatComponentText(commonHandler.getListManager().getPrefix(uuid.get()).replace("&", "§"))
-                        .appendText(" §r")
-                        .appendText(event.message.getFormattedText());
-            }
-        });
+        final Optional<UUID> uuid = commonHandler.getKnownUuidByPlayerName(playerName);
+        if (uuid.isPresent() && commonHandler.getListManager().isInList(uuid.get())) {
+            event.message = new ChatComponentText(commonHandler.getListManager().getPrefix(uuid.get()).replace("&", "§"))
+                    .appendText(" §r")
+                    .appendText(event.message.getFormattedText());
+        }
     }
 }
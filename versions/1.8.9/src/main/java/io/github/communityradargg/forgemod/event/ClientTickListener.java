@@ -17,31 +17,34 @@ package io.github.communityradargg.forgemod.event;
 
 import io.github.communityradargg.forgemod.util.CommonHandler;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
-import net.minecraftforge.fml.common.gameevent.InputEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
 import org.jetbrains.annotations.NotNull;
 
 /**
- * A class containing a listener for key input.
+ * A class containing a listener for client ticks.
  */
-public class KeyInputListener {
+public class ClientTickListener {
     private final CommonHandler commonHandler;
 
     /**
-     * Constructs the class {@link KeyInputListener}.
+     * Constructs the class {@link ClientTickListener}.
      *
      * @param commonHandler The common handler.
      */
-    public KeyInputListener(final @NotNull CommonHandler commonHandler) {
+    public ClientTickListener(final @NotNull CommonHandler commonHandler) {
         this.commonHandler = commonHandler;
     }
 
     /**
-     * The listener for the {@link InputEvent.KeyInputEvent} event.
+     * The listener for the {@link TickEvent.ClientTickEvent} event.
      *
      * @param event The event.
      */
     @SubscribeEvent
-    public void onKeyInput(final InputEvent.KeyInputEvent event) {
-        commonHandler.handleKeyInputEvent();
+    public void onClientTick(final TickEvent.ClientTickEvent event) {
+        if (event.phase != TickEvent.Phase.END) {
+            return;
+        }
+        commonHandler.handleClientTickEvent();
     }
 }
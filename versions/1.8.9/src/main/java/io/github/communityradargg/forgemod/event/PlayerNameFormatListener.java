@@ -46,6 +46,6 @@ public class PlayerNameFormatListener {
         if (!commonHandler.isOnGrieferGames()) {
             return;
         }
-        Utils.updatePlayerNameTag(commonHandler, event.entityPlayer, commonHandler.getListManager().getExistingPrefixes());
+        Utils.updatePlayerNameTag(commonHandler, event.entityPlayer, commonHandler.getPrefixMatcher());
     }
 }
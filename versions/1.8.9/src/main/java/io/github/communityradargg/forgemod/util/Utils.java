@@ -15,7 +15,9 @@
  */
 package io.github.communityradargg.forgemod.util;
 
+import com.google.common.collect.MapMaker;
 import net.minecraft.client.Minecraft;
+import net.minecraft.client.network.NetHandlerPlayClient;
 import net.minecraft.client.network.NetworkPlayerInfo;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.util.ChatComponentText;
@@ -23,7 +25,7 @@ import net.minecraft.util.IChatComponent;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Optional;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
@@ -31,100 +33,138 @@ import java.util.UUID;
  * A class with some util methods.
  */
 public class Utils {
-    /**
-     * Gets a {@link NetworkPlayerInfo} by the uuid of a player.
-     *
-     * @param uuid The uuid to get the network player info for.
-     * @return Returns an optional with the network player info of an online player to the uuid.
-     */
-    private static @NotNull Optional<NetworkPlayerInfo> getNetworkPlayerInfoByUuid(final @NotNull UUID uuid) {
-        return Minecraft.getMinecraft().thePlayer.sendQueue.getPlayerInfoMap().stream()
-                .filter(player -> player.getGameProfile() != null && uuid.equals(player.getGameProfile().getId()))
-                .findFirst();
-    }
+    // weak keys of the map maker are compared by identity, entities compare by their reusable entity id otherwise
+    private static final Map<NetworkPlayerInfo, DisplayNameDecoration<IChatComponent>> TAB_LIST_DECORATIONS = new MapMaker().weakKeys().makeMap();
+    private static final Map<EntityPlayer, NameTagDecoration<IChatComponent>> NAME_TAG_DECORATIONS = new MapMaker().weakKeys().makeMap();
 
     /**
-     * Gets a {@link EntityPlayer} by the uuid of a player.
+     * Updates the display names and name tags of all online players, whose uuid is in the given set.
+     * The online players are only iterated once, so the costs do not depend on the number of given uuids.
      *
-     * @param uuid The uuid to get the entity player for.
-     * @return Returns an optional with the entity player to the uuid.
+     * @param commonHandler The common handler.
+     * @param uuids The uuids to update the corresponding players.
+     * @param oldPrefixes A matcher for the old prefixes that need to be removed before adding the new one.
      */
-    private static @NotNull Optional<EntityPlayer> getEntityPlayerByUuid(final @NotNull UUID uuid) {
+    public static void updatePlayersByUuids(final @NotNull CommonHandler commonHandler, final @NotNull Set<UUID> uuids, final @NotNull PrefixMatcher oldPrefixes) {
+        if (uuids.isEmpty()) {
+            return;
+        }
+
         final World world = Minecraft.getMinecraft().theWorld;
-        if (world == null) {
-            return Optional.empty();
+        if (world != null) {
+            for (final EntityPlayer player : world.playerEntities) {
+                if (uuids.contains(player.getGameProfile().getId())) {
+                    updatePlayerNameTag(commonHandler, player, oldPrefixes);
+                }
+            }
         }
 
-        return world.playerEntities.stream()
-                .filter(player -> player.getGameProfile() != null && uuid.equals(player.getGameProfile().getId()))
-                .findFirst();
-    }
+        final NetHandlerPlayClient connection = Minecraft.getMinecraft().getNetHandler();
+        if (connection == null) {
+            return;
+        }
 
-    /**
-     * Updates a player display name and name tag by its uuid.
-     *
-     * @param commonHandler The common handler.
-     * @param uuid The uuid to update the corresponding player.
-     */
-    public static void updatePlayerByUuid(final @NotNull CommonHandler commonHandler, final @NotNull UUID uuid, final @NotNull Set<String> oldPrefixes) {
-        getEntityPlayerByUuid(uuid).ifPresent(player -> updatePlayerNameTag(commonHandler, player, oldPrefixes));
-        getNetworkPlayerInfoByUuid(uuid).ifPresent(networkPlayerInfo -> updatePlayerPrefix(commonHandler, networkPlayerInfo, oldPrefixes));
+        final long listVersion = commonHandler.getListManager().getListVersion();
+        if (uuids.size() < connection.getPlayerInfoMap().size()) {
+            // fewer uuids than online players, use the uuid keyed player info map of the connection
+            for (final UUID uuid : uuids) {
+                final NetworkPlayerInfo player = connection.getPlayerInfo(uuid);
+                if (player != null) {
+                    updatePlayerPrefix(commonHandler, player, listVersion);
+                }
+            }
+            return;
+        }
+
+        for (final NetworkPlayerInfo player : connection.getPlayerInfoMap()) {
+            if (uuids.contains(player.getGameProfile().getId())) {
+                updatePlayerPrefix(commonHandler, player, listVersion);
+            }
+        }
     }
 
     /**
      * Handles updating the name tag of a player entity.
+     * The prefix applied by the mod is remembered, so that nothing is done if the lists have not changed since or the prefix of the player is still the same.
      *
      * @param commonHandler The common handler.
      * @param player The player entity to update the name tag.
-     * @param oldPrefixes The old prefixes that need to be removed before adding the new one.
+     * @param oldPrefixes A matcher for the old prefixes that need to be removed before adding the new one.
      */
-    public static void updatePlayerNameTag(final @NotNull CommonHandler commonHandler, final @NotNull EntityPlayer player, final @NotNull Set<String> oldPrefixes) {
-        player.getPrefixes().removeIf(prefix -> commonHandler.isPrefixMatching(prefix.getUnformattedText(), oldPrefixes));
+    public static void updatePlayerNameTag(final @NotNull CommonHandler commonHandler, final @NotNull EntityPlayer player, final @NotNull PrefixMatcher oldPrefixes) {
+        final long listVersion = commonHandler.getListManager().getListVersion();
+        final NameTagDecoration<IChatComponent> decoration = NAME_TAG_DECORATIONS.get(player);
+        if (decoration != null && decoration.isCurrent(listVersion)) {
+            return;
+        }
+
         final String addonPrefix = commonHandler.getListManager()
                 .getPrefix(player.getGameProfile().getId());
+        if (decoration != null && decoration.getPrefix().equals(addonPrefix)
+                && (decoration.getPrefixComponent() == null || player.getPrefixes().contains(decoration.getPrefixComponent()))) {
+            // the applied prefix is still the correct one
+            NAME_TAG_DECORATIONS.put(player, decoration.withListVersion(listVersion));
+            return;
+        }
 
+        final IChatComponent oldPrefixComponent = decoration == null ? null : decoration.getPrefixComponent();
+        player.getPrefixes().removeIf(prefix -> prefix == oldPrefixComponent || oldPrefixes.matches(prefix.getUnformattedText()));
+        IChatComponent prefixComponent = null;
         if (!addonPrefix.isEmpty()) {
-            player.addPrefix(new ChatComponentText(commonHandler.formatPrefix(addonPrefix)));
+            prefixComponent = new ChatComponentText(commonHandler.formatPrefix(addonPrefix));
+            player.addPrefix(prefixComponent);
         }
+        NAME_TAG_DECORATIONS.put(player, new NameTagDecoration<>(listVersion, addonPrefix, prefixComponent));
     }
 
     /**
-     * Handles updating the player prefixes in the display name.
+     * Handles updating the player prefixes in the display name of all players in the tab list, whose prefix is not current anymore.
      *
      * @param commonHandler The common handler.
-     * @param oldPrefixes The old prefixes that need to be removed before adding the new one.
      */
-    public static void updatePrefixes(final @NotNull CommonHandler commonHandler, final @NotNull Set<String> oldPrefixes) {
-        Minecraft.getMinecraft().thePlayer.sendQueue.getPlayerInfoMap()
-                .forEach(player -> updatePlayerPrefix(commonHandler, player, oldPrefixes));
+    public static void updatePrefixes(final @NotNull CommonHandler commonHandler) {
+        final NetHandlerPlayClient connection = Minecraft.getMinecraft().getNetHandler();
+        if (connection == null) {
+            return;
+        }
+
+        final long listVersion = commonHandler.getListManager().getListVersion();
+        for (final NetworkPlayerInfo player : connection.getPlayerInfoMap()) {
+            updatePlayerPrefix(commonHandler, player, listVersion);
+        }
     }
 
     /**
      * Handles updating the player prefix in the display name of a single player.
+     * The decoration applied by the mod is remembered, so that the player is only touched if the lists or the display name have changed since.
      *
      * @param commonHandler The common handler.
      * @param player The player to update.
-     * @param oldPrefixes The old prefixes that need to be removed before adding the new one.
+     * @param listVersion The current list version.
      */
-    private static void updatePlayerPrefix(final @NotNull CommonHandler commonHandler, final @NotNull NetworkPlayerInfo player, final @NotNull Set<String> oldPrefixes) {
-        if (player.getGameProfile().getId() == null || player.getDisplayName() == null) {
+    private static void updatePlayerPrefix(final @NotNull CommonHandler commonHandler, final @NotNull NetworkPlayerInfo player, final long listVersion) {
+        final IChatComponent displayName = player.getDisplayName();
+        final DisplayNameDecoration<IChatComponent> decoration = TAB_LIST_DECORATIONS.get(player);
+        if (decoration != null && decoration.isCurrent(displayName, listVersion)) {
             return;
         }
 
-        final IChatComponent displayName = player.getDisplayName();
-        IChatComponent newDisplayName = displayName;
-        for (final String prefix : oldPrefixes) {
-            if (!displayName.getUnformattedText().startsWith(commonHandler.unformatPrefixForCompare(prefix))) {
-                continue;
-            }
-            newDisplayName = displayName.getSiblings().get(displayName.getSiblings().size() - 1);
+        final IChatComponent undecoratedDisplayName = decoration == null ? displayName : decoration.getUndecoratedDisplayName(displayName);
+        if (player.getGameProfile().getId() == null || undecoratedDisplayName == null) {
+            TAB_LIST_DECORATIONS.put(player, new DisplayNameDecoration<>(listVersion, undecoratedDisplayName, displayName));
+            return;
         }
 
+        IChatComponent newDisplayName = undecoratedDisplayName;
         final String addonPrefix = commonHandler.getListManager()
                 .getPrefix(player.getGameProfile().getId());
         if (!addonPrefix.isEmpty()) {
-            newDisplayName = new ChatComponentText(commonHandler.formatPrefix(addonPrefix)).appendSibling(newDisplayName);
+            newDisplayName = new ChatComponentText(commonHandler.formatPrefix(addonPrefix)).appendSibling(undecoratedDisplayName);
+        }
+
+        if (newDisplayName != displayName) {
+            player.setDisplayName(newDisplayName);
         }
-        player.setDisplayName(newDisplayName);
+        TAB_LIST_DECORATIONS.put(player, new DisplayNameDecoration<>(listVersion, undecoratedDisplayName, newDisplayName));
     }
 }
@@ -77,18 +77,13 @@ public class VersionBridgeImpl implements VersionBridge {
     }
 
     @Override
-    public void updatePlayerByUuid(final @NotNull CommonHandler commonHandler, final @NotNull UUID uuid, final @NotNull Set<@NotNull String> oldPrefixes) {
-        Utils.updatePlayerByUuid(commonHandler, uuid, oldPrefixes);
+    public void updatePlayersByUuids(final @NotNull CommonHandler commonHandler, final @NotNull Set<@NotNull UUID> uuids, final @NotNull PrefixMatcher oldPrefixes) {
+        Utils.updatePlayersByUuids(commonHandler, uuids, oldPrefixes);
     }
 
     @Override
-    public void updatePrefixes(final @NotNull CommonHandler commonHandler, final @NotNull Set<String> oldPrefixes) {
-        Utils.updatePrefixes(commonHandler, oldPrefixes);
-    }
-
-    @Override
-    public boolean isPlayerListKeyPressed() {
-        return Minecraft.getMinecraft().gameSettings.keyBindPlayerList.isPressed();
+    public void updatePrefixes(final @NotNull CommonHandler commonHandler) {
+        Utils.updatePrefixes(commonHandler);
     }
 
     @Override